@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,6 +11,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -22,9 +25,14 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BookingLoadPolicy;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,7 +65,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +75,77 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file of {@code userPrefs}, in the format and layout chosen
+     * by its storage settings.
+     * If the data was last saved in another format, it is converted to the chosen format first. A journal left from
+     * when journaling was on is folded into the json file first if journaling is now off.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        BookingLoadPolicy bookingLoadPolicy = storageSettings.isLazyBookings()
+                ? BookingLoadPolicy.lazy(storageSettings.getBookingArchiveDays())
+                : BookingLoadPolicy.EAGER;
+        JsonAddressBookStorage jsonFileStorage = new JsonAddressBookStorage(jsonFilePath,
+                storageSettings.isPrettyPrinted(), storageSettings.isMemoryMapped(), bookingLoadPolicy);
+        if (!storageSettings.isJournaled()) {
+            compactLeftoverJournal(jsonFileStorage);
+        }
+        AddressBookStorage jsonStorage = storageSettings.isJournaled()
+                ? new JournalAddressBookStorage(jsonFileStorage, storageSettings.getJournalCompactionBytes())
+                : jsonFileStorage;
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath), storageSettings.isMemoryMapped(),
+                bookingLoadPolicy);
+        AddressBookStorage shardedStorage = new ShardedAddressBookStorage(
+                ShardedAddressBookStorage.getShardDirectoryPath(jsonFilePath),
+                ShardedAddressBookStorage.DEFAULT_SEGMENT_COUNT, bookingLoadPolicy);
+
+        AddressBookStorage selectedStorage;
+        switch (storageSettings.getFormat()) {
+        case BINARY:
+            selectedStorage = binaryStorage;
+            break;
+        case SHARDED:
+            selectedStorage = shardedStorage;
+            break;
+        default:
+            selectedStorage = jsonStorage;
+            break;
+        }
+
+        List<AddressBookStorage> otherStorages = new ArrayList<>(List.of(jsonStorage, binaryStorage, shardedStorage));
+        otherStorages.remove(selectedStorage);
+        convertIfNewer(otherStorages, selectedStorage);
+        return selectedStorage;
+    }
+
+    /**
+     * Folds the journal left next to the data file of {@code jsonFileStorage}, if any, into the data file. A failure
+     * is logged, and the journal is left in place so that turning journaling back on still loads its changes.
+     */
+    private void compactLeftoverJournal(JsonAddressBookStorage jsonFileStorage) {
+        try {
+            JournalAddressBookStorage.compactLeftoverJournal(jsonFileStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Journal of data file " + jsonFileStorage.getAddressBookFilePath()
+                    + " could not be folded into it, so its changes are not loaded: " + e);
+        }
+    }
+
+    /**
+     * Converts the data of the newest of {@code sources} to {@code target} if it is newer. A failed conversion is
+     * logged, and the data of {@code target} is used as it is.
+     */
+    private void convertIfNewer(List<AddressBookStorage> sources, AddressBookStorage target) {
+        try {
+            AddressBookConverter.convertIfNewer(sources, target);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file " + target.getAddressBookFilePath() + " could not be brought up to date: " + e);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +256,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            logic.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
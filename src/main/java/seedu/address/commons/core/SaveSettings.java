@@ -0,0 +1,109 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings for when the address book is saved.
+ * Guarantees: immutable.
+ */
+public class SaveSettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The save delay must not be negative and the number of commands per save must be positive.";
+
+    private static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+    private static final int DEFAULT_COMMANDS_PER_SAVE = 10;
+
+    /**
+     * When changes to the address book are written to its file.
+     */
+    public enum Mode {
+        /** After every command that changes the address book, before the command returns. */
+        IMMEDIATE,
+        /** In the background, once no change has been made for the save delay. */
+        DEBOUNCE,
+        /** In the background, once the set number of commands have changed the address book. */
+        EVERY_N_COMMANDS
+    }
+
+    private final Mode mode;
+    private final long debounceMillis;
+    private final int commandsPerSave;
+
+    /**
+     * Constructs a {@code SaveSettings} that saves immediately.
+     */
+    public SaveSettings() {
+        mode = Mode.IMMEDIATE;
+        debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+        commandsPerSave = DEFAULT_COMMANDS_PER_SAVE;
+    }
+
+    /**
+     * Constructs a {@code SaveSettings} with the specified mode, save delay and number of commands per save.
+     */
+    public SaveSettings(Mode mode, long debounceMillis, int commandsPerSave) {
+        requireNonNull(mode);
+        checkArgument(debounceMillis >= 0 && commandsPerSave > 0, MESSAGE_CONSTRAINTS);
+        this.mode = mode;
+        this.debounceMillis = debounceMillis;
+        this.commandsPerSave = commandsPerSave;
+    }
+
+    public Mode getMode() {
+        // A missing mode in the preference file means the default mode
+        return mode != null ? mode : Mode.IMMEDIATE;
+    }
+
+    public long getDebounceMillis() {
+        return Math.max(debounceMillis, 0);
+    }
+
+    public int getCommandsPerSave() {
+        return Math.max(commandsPerSave, 1);
+    }
+
+    /**
+     * Returns true if saves are made in the background instead of by the command that made the change.
+     */
+    public boolean isWriteBehind() {
+        return getMode() != Mode.IMMEDIATE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveSettings)) {
+            return false;
+        }
+
+        SaveSettings otherSaveSettings = (SaveSettings) other;
+        return getMode() == otherSaveSettings.getMode()
+                && getDebounceMillis() == otherSaveSettings.getDebounceMillis()
+                && getCommandsPerSave() == otherSaveSettings.getCommandsPerSave();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMode(), getDebounceMillis(), getCommandsPerSave());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("mode", getMode())
+                .add("debounceMillis", getDebounceMillis())
+                .add("commandsPerSave", getCommandsPerSave())
+                .toString();
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings for how the address book is stored on disk.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * The format the address book is stored in.
+     */
+    public enum Format {
+        /** A json file, optionally journaled. */
+        JSON,
+        /** A compact binary file next to where the json file would be. Journaling does not apply. */
+        BINARY,
+        /**
+         * A directory of binary segment files next to where the json file would be, of which a save rewrites only
+         * the segments that changed. Journaling does not apply.
+         */
+        SHARDED
+    }
+
+    public static final String MESSAGE_CONSTRAINTS = "The journal compaction threshold must be positive.";
+    public static final int MAX_BOOKING_ARCHIVE_DAYS = 100 * 366;
+    public static final String MESSAGE_ARCHIVE_DAYS_CONSTRAINTS =
+            "The booking archive age must be from 0 to " + MAX_BOOKING_ARCHIVE_DAYS + " days.";
+
+    private static final long DEFAULT_JOURNAL_COMPACTION_BYTES = 1024 * 1024;
+    private static final int DEFAULT_BOOKING_ARCHIVE_DAYS = 30;
+
+    private final boolean journaled;
+    private final long journalCompactionBytes;
+    private final boolean prettyPrinted;
+    private final Format format;
+    private final boolean memoryMapped;
+    private final boolean lazyBookings;
+    private final int bookingArchiveDays;
+
+    /**
+     * Constructs a {@code StorageSettings} that stores the address book as a single, indented json file.
+     */
+    public StorageSettings() {
+        journaled = false;
+        journalCompactionBytes = DEFAULT_JOURNAL_COMPACTION_BYTES;
+        prettyPrinted = true;
+        format = Format.JSON;
+        memoryMapped = false;
+        lazyBookings = false;
+        bookingArchiveDays = DEFAULT_BOOKING_ARCHIVE_DAYS;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified settings.
+     */
+    public StorageSettings(boolean journaled, long journalCompactionBytes, boolean prettyPrinted, Format format,
+            boolean memoryMapped, boolean lazyBookings, int bookingArchiveDays) {
+        requireNonNull(format);
+        checkArgument(journalCompactionBytes > 0, MESSAGE_CONSTRAINTS);
+        checkArgument(isValidBookingArchiveDays(bookingArchiveDays), MESSAGE_ARCHIVE_DAYS_CONSTRAINTS);
+        this.journaled = journaled;
+        this.journalCompactionBytes = journalCompactionBytes;
+        this.prettyPrinted = prettyPrinted;
+        this.format = format;
+        this.memoryMapped = memoryMapped;
+        this.lazyBookings = lazyBookings;
+        this.bookingArchiveDays = bookingArchiveDays;
+    }
+
+    public Format getFormat() {
+        return format != null ? format : Format.JSON;
+    }
+
+    /**
+     * Returns true if changes are appended to a journal next to the data file instead of rewriting the file.
+     */
+    public boolean isJournaled() {
+        return journaled;
+    }
+
+    public long getJournalCompactionBytes() {
+        return journalCompactionBytes > 0 ? journalCompactionBytes : DEFAULT_JOURNAL_COMPACTION_BYTES;
+    }
+
+    /**
+     * Returns true if the data file is indented for reading and editing by people, as it is by default.
+     * Turning this off writes the file on a single line, which is smaller and faster to save.
+     */
+    public boolean isPrettyPrinted() {
+        return prettyPrinted;
+    }
+
+    /**
+     * Returns true if the data file is read through a memory mapping of it rather than a stream, which saves copying
+     * large files into memory. On Windows, a mapped file cannot be replaced until the mapping is garbage collected,
+     * which may make the first save after loading fail.
+     */
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    /**
+     * Returns true if the bookings of each person are decoded only when they are first needed, rather than when the
+     * address book is loaded. The bookings after the archive horizon are still checked when the address book is
+     * loaded; an invalid booking before it is reported only when the bookings before it are first needed.
+     */
+    public boolean isLazyBookings() {
+        return lazyBookings;
+    }
+
+    /**
+     * Returns the age in days beyond which the bookings of a person are decoded only when bookings that old are
+     * needed, if bookings are decoded lazily.
+     */
+    public int getBookingArchiveDays() {
+        return isValidBookingArchiveDays(bookingArchiveDays) ? bookingArchiveDays : DEFAULT_BOOKING_ARCHIVE_DAYS;
+    }
+
+    private static boolean isValidBookingArchiveDays(int days) {
+        return days >= 0 && days <= MAX_BOOKING_ARCHIVE_DAYS;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return journaled == otherStorageSettings.journaled
+                && getJournalCompactionBytes() == otherStorageSettings.getJournalCompactionBytes()
+                && prettyPrinted == otherStorageSettings.prettyPrinted
+                && getFormat() == otherStorageSettings.getFormat()
+                && memoryMapped == otherStorageSettings.memoryMapped
+                && lazyBookings == otherStorageSettings.lazyBookings
+                && getBookingArchiveDays() == otherStorageSettings.getBookingArchiveDays();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journaled, getJournalCompactionBytes(), prettyPrinted, getFormat(), memoryMapped,
+                lazyBookings, getBookingArchiveDays());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("journaled", journaled)
+                .add("journalCompactionBytes", getJournalCompactionBytes())
+                .add("prettyPrinted", prettyPrinted)
+                .add("format", getFormat())
+                .add("memoryMapped", memoryMapped)
+                .add("lazyBookings", lazyBookings)
+                .add("bookingArchiveDays", getBookingArchiveDays())
+                .toString();
+    }
+}
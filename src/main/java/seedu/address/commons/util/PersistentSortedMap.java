@@ -0,0 +1,383 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * An immutable map ordered by its keys, backed by a balanced (AVL) binary search tree.
+ * {@link #put} and {@link #remove} return a new map that shares every subtree off the updated path with this one,
+ * so a single update allocates O(log n) nodes instead of copying all n entries. Null keys and values are not allowed.
+ * Every node caches the size and hash code of its subtree, so {@link #hashCode()} takes constant time and
+ * positional lookups take O(log n) time.
+ */
+public final class PersistentSortedMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentSortedMap<?, ?> EMPTY = new PersistentSortedMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> empty() {
+        return (PersistentSortedMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the entries of {@code entries}, built in linear time.
+     */
+    public static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> copyOf(SortedMap<K, V> entries) {
+        requireNonNull(entries);
+        List<Map.Entry<K, V>> sortedEntries = new ArrayList<>(entries.entrySet());
+        return new PersistentSortedMap<>(build(sortedEntries, 0, sortedEntries.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the greatest key in this map, or null if the map is empty.
+     */
+    public K lastKey() {
+        Node<K, V> node = root;
+        if (node == null) {
+            return null;
+        }
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns the value at position {@code index} (0-based) in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in this map.
+     */
+    public V valueAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<K, V> node = root;
+        int remaining = index;
+        while (remaining != size(node.left)) {
+            if (remaining < size(node.left)) {
+                node = node.left;
+            } else {
+                remaining -= size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the number of keys in this map that are less than or equal to {@code key}.
+     */
+    public int countAtOrBefore(K key) {
+        requireNonNull(key);
+        int count = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            if (key.compareTo(node.key) < 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if this map has a key from {@code fromKey} (inclusive) to {@code toKey} (exclusive).
+     */
+    public boolean containsKeyBetween(K fromKey, K toKey) {
+        requireNonNull(fromKey);
+        requireNonNull(toKey);
+        Node<K, V> node = root;
+        while (node != null) {
+            if (node.key.compareTo(fromKey) < 0) {
+                node = node.right;
+            } else if (node.key.compareTo(toKey) >= 0) {
+                node = node.left;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, replacing any existing mapping of {@code key}.
+     */
+    public PersistentSortedMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        return new PersistentSortedMap<>(put(root, key, value));
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        }
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    /**
+     * Returns a map without the mapping of {@code key}, or this map if there is none.
+     */
+    public PersistentSortedMap<K, V> remove(K key) {
+        requireNonNull(key);
+        if (get(key) == null) {
+            return this;
+        }
+        return new PersistentSortedMap<>(remove(root, key));
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, remove(node.left, key), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.key, node.value, node.left, remove(node.right, key));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    /**
+     * Returns the values of this map ordered by key.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size());
+        collectValues(root, values);
+        return values;
+    }
+
+    /**
+     * Returns the values whose keys are from {@code fromKey} (inclusive) to {@code toKey} (exclusive), ordered by key.
+     */
+    public List<V> valuesBetween(K fromKey, K toKey) {
+        requireNonNull(fromKey);
+        requireNonNull(toKey);
+        if (fromKey.compareTo(toKey) >= 0) {
+            return Collections.emptyList();
+        }
+        List<V> values = new ArrayList<>();
+        collectValuesBetween(root, fromKey, toKey, values);
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentSortedMap<?, ?> otherMap)) {
+            return false;
+        }
+
+        if (root == otherMap.root) {
+            return true;
+        }
+        if (size() != otherMap.size() || hashCode() != otherMap.hashCode()) {
+            return false;
+        }
+        List<Node<K, V>> nodes = new ArrayList<>(size());
+        collectNodes(root, nodes);
+        List<Node<?, ?>> otherNodes = new ArrayList<>(size());
+        collectNodes(otherMap.root, otherNodes);
+        for (int i = 0; i < nodes.size(); i++) {
+            if (!nodes.get(i).key.equals(otherNodes.get(i).key)
+                    || !nodes.get(i).value.equals(otherNodes.get(i).value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(root);
+    }
+
+    @Override
+    public String toString() {
+        List<Node<K, V>> nodes = new ArrayList<>(size());
+        collectNodes(root, nodes);
+        StringBuilder builder = new StringBuilder("{");
+        Iterator<Node<K, V>> iterator = nodes.iterator();
+        while (iterator.hasNext()) {
+            Node<K, V> node = iterator.next();
+            builder.append(node.key).append('=').append(node.value);
+            if (iterator.hasNext()) {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * A tree node. Nodes are never modified once created, so they can be shared between maps.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+        // Sum of the entry hash codes in this subtree, as in java.util.Map#hashCode
+        private final int hash;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+            this.size = 1 + size(left) + size(right);
+            this.hash = hash(left) + (key.hashCode() ^ value.hashCode()) + hash(right);
+        }
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int hash(Node<?, ?> node) {
+        return node == null ? 0 : node.hash;
+    }
+
+    private static <K, V> Node<K, V> build(List<Map.Entry<K, V>> sortedEntries, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Map.Entry<K, V> entry = sortedEntries.get(middle);
+        return new Node<>(requireNonNull(entry.getKey()), requireNonNull(entry.getValue()),
+                build(sortedEntries, from, middle), build(sortedEntries, middle + 1, to));
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node with the given contents, rotated if the heights of its subtrees differ by more than one.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> pivot = left.right;
+            return new Node<>(pivot.key, pivot.value, new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> pivot = right.left;
+            return new Node<>(pivot.key, pivot.value, new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static <K, V> void collectNodes(Node<K, V> node, List<? super Node<K, V>> nodes) {
+        if (node == null) {
+            return;
+        }
+        collectNodes(node.left, nodes);
+        nodes.add(node);
+        collectNodes(node.right, nodes);
+    }
+
+    private static <K, V> void collectValues(Node<K, V> node, List<V> values) {
+        if (node == null) {
+            return;
+        }
+        collectValues(node.left, values);
+        values.add(node.value);
+        collectValues(node.right, values);
+    }
+
+    private static <K extends Comparable<? super K>, V> void collectValuesBetween(Node<K, V> node, K fromKey,
+            K toKey, List<V> values) {
+        if (node == null) {
+            return;
+        }
+        boolean afterFrom = node.key.compareTo(fromKey) >= 0;
+        boolean beforeTo = node.key.compareTo(toKey) < 0;
+        if (afterFrom) {
+            collectValuesBetween(node.left, fromKey, toKey, values);
+        }
+        if (afterFrom && beforeTo) {
+            values.add(node.value);
+        }
+        if (beforeTo) {
+            collectValuesBetween(node.right, fromKey, toKey, values);
+        }
+    }
+}
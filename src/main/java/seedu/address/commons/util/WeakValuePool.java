@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of immutable values, keyed by the input they are created from.
+ * Equal inputs share one value for as long as any part of the application still uses it; values are only
+ * weakly referenced by the pool, so values that are no longer used are reclaimed by the garbage collector.
+ * Safe for use by multiple threads.
+ */
+public class WeakValuePool<K, V> {
+
+    private final Map<K, ValueReference<K, V>> references = new HashMap<>();
+    private final ReferenceQueue<V> reclaimedValues = new ReferenceQueue<>();
+
+    /**
+     * Returns the pooled value for {@code key}, creating it with {@code factory} if there is none.
+     * If {@code factory} throws, nothing is pooled and the exception is propagated.
+     */
+    public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+        requireNonNull(key);
+        requireNonNull(factory);
+        expungeReclaimedValues();
+
+        ValueReference<K, V> reference = references.get(key);
+        V value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = requireNonNull(factory.apply(key));
+            references.put(key, new ValueReference<>(key, value, reclaimedValues));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool that have not been reclaimed yet.
+     */
+    public synchronized int size() {
+        expungeReclaimedValues();
+        return references.size();
+    }
+
+    private void expungeReclaimedValues() {
+        for (Object reclaimed = reclaimedValues.poll(); reclaimed != null; reclaimed = reclaimedValues.poll()) {
+            ValueReference<?, ?> reference = (ValueReference<?, ?>) reclaimed;
+            references.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value that remembers its key, so that its entry can be removed once the value
+     * has been reclaimed.
+     */
+    private static class ValueReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        ValueReference(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
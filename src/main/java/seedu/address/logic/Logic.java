@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +26,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message of a background save that failed.
+     * The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Saves any changes that have not been saved yet and stops saving in the background.
+     *
+     * @throws IOException If the changes could not be saved.
+     */
+    void shutdown() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +49,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the time that bookings are shown as past or upcoming at.
+     *
+     * @see seedu.address.model.Model#getBookingDisplayTime()
+     */
+    LocalDateTime getBookingDisplayTime();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,13 +1,19 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveSettings;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,7 +22,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.InvalidBookingDataException;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -32,14 +40,43 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Clock clock;
+
+    // Saves in the background, or null if changes are saved by the command that made them
+    private final WriteBehindSaver writeBehindSaver;
+
+    // Modification count of the address book when it was last saved (or loaded)
+    private long savedModificationCount;
+    private int skippedSaveCount;
+    private Consumer<String> saveFailureHandler = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The current address book of {@code model} is taken to be saved already.
+     * Changes are saved as chosen by the save settings in the user prefs of {@code model}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} as above, reading the time that bookings are shown as past or upcoming at
+     * from {@code clock} now and after each command.
+     */
+    public LogicManager(Model model, Storage storage, Clock clock) {
+        requireNonNull(clock);
         this.model = model;
         this.storage = storage;
+        this.clock = clock;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
+        // The bookings shown before the first command are numbered at startup, by the same clock
+        model.setBookingDisplayTime(LocalDateTime.now(clock));
+
+        SaveSettings saveSettings = model.getUserPrefs().getSaveSettings();
+        writeBehindSaver = saveSettings.isWriteBehind()
+                ? new WriteBehindSaver(storage, saveSettings, this::handleBackgroundSaveFailure)
+                : null;
     }
 
     @Override
@@ -48,19 +85,69 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (InvalidBookingDataException e) {
+            throw new CommandException(e.getMessage(), e);
+        } finally {
+            // The bookings shown after this command are numbered at the time it ran, until the next command
+            model.setBookingDisplayTime(LocalDateTime.now(clock));
+        }
+
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
+
+        if (writeBehindSaver != null) {
+            writeBehindSaver.submit(model.getAddressBook());
+            savedModificationCount = modificationCount;
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            savedModificationCount = modificationCount;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void shutdown() throws IOException {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.shutdown();
+        }
+    }
+
+    private void handleBackgroundSaveFailure(IOException ioe) {
+        saveFailureHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book had not changed.
+     */
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +158,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public LocalDateTime getBookingDisplayTime() {
+        return model.getBookingDisplayTime();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
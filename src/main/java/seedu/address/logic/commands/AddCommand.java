@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -95,13 +94,7 @@ public class AddCommand extends Command {
                     existingTags.addAll(newTags);
 
                     // Create updated person with merged tags
-                    Person updatedPerson = new Person(
-                            existingPerson.getName(),
-                            existingPerson.getPhone(),
-                            existingPerson.getEmail(),
-                            existingTags,
-                            existingPerson.getBookings()
-                    );
+                    Person updatedPerson = existingPerson.withTags(existingTags);
 
                     model.setPerson(existingPerson, updatedPerson);
 
@@ -165,19 +158,13 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Finds a person by name in the model's filtered person list.
+     * Finds a person by name in the model's address book.
      *
      * @param model The model to search in
      * @param name The name to search for
      * @return The person if found, null otherwise
      */
     private Person findPersonByName(Model model, seedu.address.model.person.Name name) {
-        List<Person> personList = model.getFilteredPersonList();
-        for (Person person : personList) {
-            if (person.getName().equals(name)) {
-                return person;
-            }
-        }
-        return null;
+        return model.getPerson(name).orElse(null);
     }
 }
@@ -7,8 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.ErrorMessage;
@@ -77,13 +76,7 @@ public class BookCommand extends Command {
                 personName, clientName, datetime));
 
         // Find the person by name
-        Person personToBook = null;
-        for (Person person : model.getAddressBook().getPersonList()) {
-            if (person.getName().equals(personName)) {
-                personToBook = person;
-                break;
-            }
-        }
+        Person personToBook = model.getPerson(personName).orElse(null);
 
         if (personToBook == null) {
             logger.warning(String.format("Person not found for booking: %s", personName));
@@ -92,28 +85,19 @@ public class BookCommand extends Command {
 
         // Check for double booking
         Booking newBooking = new Booking(clientName, datetime, description);
-        for (Booking existingBooking : personToBook.getBookings()) {
-            if (existingBooking.conflictsWith(newBooking)) {
-                logger.warning(String.format("Double booking detected for %s at %s", personName, datetime));
-                throw new CommandException(String.format(MESSAGE_DOUBLE_BOOKING,
-                        personName,
-                        existingBooking.getDateTimeString(),
-                        existingBooking.getClientName(),
-                        existingBooking.getDescription()));
-            }
+        Optional<Booking> conflictingBooking = personToBook.getBookingAt(newBooking.getDateTime());
+        if (conflictingBooking.isPresent()) {
+            Booking existingBooking = conflictingBooking.get();
+            logger.warning(String.format("Double booking detected for %s at %s", personName, datetime));
+            throw new CommandException(String.format(MESSAGE_DOUBLE_BOOKING,
+                    personName,
+                    existingBooking.getDateTimeString(),
+                    existingBooking.getClientName(),
+                    existingBooking.getDescription()));
         }
 
         // Create updated person with new booking
-        List<Booking> updatedBookings = new ArrayList<>(personToBook.getBookings());
-        updatedBookings.add(newBooking);
-
-        Person updatedPerson = new Person(
-                personToBook.getName(),
-                personToBook.getPhone(),
-                personToBook.getEmail(),
-                personToBook.getTags(),
-                updatedBookings
-        );
+        Person updatedPerson = personToBook.withBooking(newBooking);
 
         model.setPerson(personToBook, updatedPerson);
 
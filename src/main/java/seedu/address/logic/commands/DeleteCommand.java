@@ -5,8 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_BOOKING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -113,58 +111,24 @@ public class DeleteCommand extends Command {
 
         logger.info(String.format("Executing DeleteCommand for person: %s", targetName.fullName));
 
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Person personToDelete = findUniquePerson(lastShownList, targetName);
+        Person personToDelete = findUniquePerson(model, targetName);
 
         if (targetBooking < 0) {
             throw new CommandException("Booking ID must be a valid positive integer!");
         }
 
         if (targetBooking > 0) {
-            List<Booking> bookingList = personToDelete.getBookings();
-
-            // Sort bookings using the same comparator as the UI
-            // Future bookings first (ascending), then past bookings (ascending)
-            Comparator<Booking> bookingComparator = (b1, b2) -> {
-                boolean b1IsFuture = Booking.isFutureDateTime(b1.getDateTime());
-                boolean b2IsFuture = Booking.isFutureDateTime(b2.getDateTime());
-
-                if (b1IsFuture && b2IsFuture) {
-                    // Both future: sort ascending
-                    return b1.getDateTime().compareTo(b2.getDateTime());
-                } else if (!b1IsFuture && !b2IsFuture) {
-                    // Both past: sort ascending
-                    return b1.getDateTime().compareTo(b2.getDateTime());
-                } else {
-                    // One future, one past: future comes first
-                    return b1IsFuture ? -1 : 1;
-                }
-            };
-
-            // Sort the booking list to match display order before accessing by index
-            List<Booking> sortedBookings = new ArrayList<>(bookingList);
-            sortedBookings.sort(bookingComparator);
-
-            if (sortedBookings.size() < targetBooking) {
+            // Booking IDs typed by the user are display positions: future bookings first, then past bookings,
+            // numbered as they are shown
+            Optional<Booking> bookingToRemove =
+                    personToDelete.getBookingAtDisplayIndex(targetBooking, model.getBookingDisplayTime());
+            if (bookingToRemove.isEmpty()) {
                 throw new CommandException(String.format(MESSAGE_DELETE_BOOKING_NOT_FOUND,
                         personToDelete.getName().fullName, targetBooking));
             }
 
-            // Get the booking to remove based on display order
-            Booking removedBooking = sortedBookings.get(targetBooking - 1);
-
-            // Remove the booking from the original storage order
-            List<Booking> newBookings = new ArrayList<>(bookingList);
-            newBookings.remove(removedBooking);
-
-            Person updatedPerson = new Person(
-                    personToDelete.getName(),
-                    personToDelete.getPhone(),
-                    personToDelete.getEmail(),
-                    personToDelete.getTags(),
-                    newBookings
-            );
+            Booking removedBooking = bookingToRemove.get();
+            Person updatedPerson = personToDelete.withoutBooking(removedBooking.getId());
             model.setPerson(personToDelete, updatedPerson);
             model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
@@ -206,13 +170,7 @@ public class DeleteCommand extends Command {
 
         curr.removeAll(present);
 
-        Person updatedPerson = new Person(
-                personToDelete.getName(),
-                personToDelete.getPhone(),
-                personToDelete.getEmail(),
-                curr,
-                personToDelete.getBookings()
-        );
+        Person updatedPerson = personToDelete.withTags(curr);
 
         model.setPerson(personToDelete, updatedPerson);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
@@ -270,28 +228,19 @@ public class DeleteCommand extends Command {
         return firstName.contains(targetNameLower);
     }
 
-    private Person findUniquePerson(List<Person> list, Name targetName) throws CommandException {
-        String queryName = targetName.toString();
-
-        List<Person> exactMatch = list.stream()
-                .filter(x -> x.getName().toString().equals(queryName))
-                .toList();
-        if (exactMatch.size() == 1) {
+    private Person findUniquePerson(Model model, Name targetName) throws CommandException {
+        Optional<Person> exactMatch = model.getPerson(targetName)
+                .filter(model::isInFilteredPersonList);
+        if (exactMatch.isPresent()) {
             logger.fine(String.format("Found exact match for person: %s", targetName.fullName));
-            return exactMatch.get(0);
-        }
-        if (exactMatch.size() > 1) {
-            logger.warning(String.format("Multiple exact matches found for person: %s", targetName.fullName));
-            String allMatches = exactMatch.stream()
-                    .map(Messages::format)
-                    .collect(Collectors.joining("\n"));
-            throw new CommandException(
-                    String.format(MESSAGE_DELETE_PERSON_MULTIPLE_MATCH, targetName.fullName, allMatches));
+            return exactMatch.get();
         }
 
-        List<Person> contains = list.stream()
-                .filter(x -> x.getName().toString().replaceAll("\\s+", " ")
-                .contains(queryName.replaceAll("\\s+", " ")))
+        // Names are whitespace-normalized by Name, so a plain contains matches the normalized names
+        String queryName = targetName.toString();
+        List<Person> contains = model.getPersonsWithNameContaining(queryName).stream()
+                .filter(model::isInFilteredPersonList)
+                .filter(x -> x.getName().toString().contains(queryName))
                 .toList();
         if (contains.size() == 1) {
             logger.fine(String.format("Found partial match for person: %s", targetName.fullName));
@@ -9,7 +9,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -85,14 +84,10 @@ public class EditCommand extends Command {
         assert oldName != null : "Old name should not be null";
         assert editPersonDescriptor != null : "Edit person descriptor should not be null";
 
-        List<Person> lastShownList = model.getFilteredPersonList();
-        assert lastShownList != null : "Filtered person list should not be null";
-
         logger.info(String.format("Executing EditCommand for Person: %s", oldName.fullName));
 
-        Person personToEdit = lastShownList.stream()
-                .filter(person -> person.getName().equals(oldName))
-                .findFirst()
+        Person personToEdit = model.getPerson(oldName)
+                .filter(model::isInFilteredPersonList)
                 .orElseThrow(() -> {
                     logger.warning(String.format(
                         "Invalid name provided, Person not found: %s", oldName.fullName));
@@ -128,8 +123,7 @@ public class EditCommand extends Command {
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        Person editedPerson = new Person(updatedName, updatedPhone, updatedEmail, updatedTags,
-                personToEdit.getBookings());
+        Person editedPerson = personToEdit.withDetails(updatedName, updatedPhone, updatedEmail, updatedTags);
 
         return editedPerson;
     }
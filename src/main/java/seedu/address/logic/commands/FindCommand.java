@@ -3,21 +3,32 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.ErrorMessage;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.model.FindResultCache;
 import seedu.address.model.Model;
 import seedu.address.model.person.ClientContainsKeywordsPredicate;
+import seedu.address.model.person.MatchedPersonsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the
  * argument keywords. Keyword matching is case insensitive.
+ * A {@code Query} is instead planned over the indexes of the address book, and the plan can be explained.
+ * The matches of keyword and query searches are cached, so repeating a search does not test any person again.
  */
 public class FindCommand extends Command {
 
@@ -26,11 +37,17 @@ public class FindCommand extends Command {
     public static final ErrorMessage MESSAGE_USAGE = new ErrorMessage(
             "Finds all persons whose names partially contain any of the specified keywords "
                     + "(case-insensitive) and displays them as a list with index numbers.",
-            "find [n/NAME] [t/TAG] [d/DATE]",
+            "find [n/NAME] [t/TAG] [d/DATE or d/START_DATE..END_DATE], or find q/[EXPLAIN] QUERY where QUERY "
+                    + "combines n/, t/, d/, p/, e/ and c/ with AND, OR, NOT and ( )",
             COMMAND_WORD + " n/Alex"
     );
 
+    public static final String MESSAGE_QUERY_TIME = "Took %1$.3f ms";
+    public static final String MESSAGE_CACHED_PLAN = "Plan: cached result of %1$d persons";
+    public static final String MESSAGE_CACHE_STATISTICS = "Result cache: %1$d hits, %2$d misses";
+
     private final Predicate<Person> predicate;
+    private final boolean isExplain;
 
     /**
      * Creates a FindCommand to be executed with the specified
@@ -41,6 +58,17 @@ public class FindCommand extends Command {
         assert predicate != null : "Predicate passed to FindCommand must not be null";
 
         this.predicate = predicate;
+        this.isExplain = false;
+    }
+
+    /**
+     * Creates a FindCommand to be executed with the specified {@code query},
+     * showing its plan and timing if {@code isExplain}.
+     */
+    public FindCommand(Query query, boolean isExplain) {
+        requireNonNull(query);
+        this.predicate = query;
+        this.isExplain = isExplain;
     }
 
     @Override
@@ -49,7 +77,26 @@ public class FindCommand extends Command {
         assert model.getFilteredPersonList() != null
                     : "Model's filtered person list should not be null before updating";
 
-        model.updateFilteredPersonList(predicate);
+        if (predicate instanceof Query) {
+            return executeQuery(model, (Query) predicate);
+        }
+
+        if (predicate instanceof ClientContainsKeywordsPredicate clientPredicate) {
+            FindResultCache cache = model.getFindResultCache();
+            long version = model.getAddressBookModificationCount();
+            Map<String, List<String>> key = clientPredicate.getNormalizedCriteria();
+            Optional<Set<Person>> cachedMatches = cache.get(key, version);
+            if (cachedMatches.isPresent()) {
+                model.updateFilteredPersonList(
+                        new MatchedPersonsPredicate(model, cachedMatches.get(), clientPredicate));
+            } else {
+                // Date criteria are answered from the model's booking time index rather than per-person scans
+                model.updateFilteredPersonList(clientPredicate.resolve(model));
+                cache.put(key, clientPredicate, toIdentitySet(model.getFilteredPersonList()), version);
+            }
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         int resultCount = model.getFilteredPersonList().size();
         // Ensure the count is non-negative
         assert resultCount >= 0 : "Result count of filtered list should never be negative";
@@ -60,6 +107,47 @@ public class FindCommand extends Command {
         return new CommandResult(searchParamsMessage + "\n" + resultMessage);
     }
 
+    /**
+     * Filters the persons of {@code model} by {@code query}, reusing its cached matches or else planning it over the
+     * indexes of {@code model}.
+     */
+    private CommandResult executeQuery(Model model, Query query) {
+        long startTime = System.nanoTime();
+        FindResultCache cache = model.getFindResultCache();
+        long version = model.getAddressBookModificationCount();
+        Query key = query.normalize();
+        QueryPlanner planner = new QueryPlanner(model);
+        QueryPlan plan = null;
+        Set<Person> matches = cache.get(key, version).orElse(null);
+        if (matches == null) {
+            plan = planner.plan(query);
+            matches = planner.findMatches(plan);
+            cache.put(key, query, matches, version);
+        }
+        model.updateFilteredPersonList(new MatchedPersonsPredicate(model, matches, query));
+        int resultCount = model.getFilteredPersonList().size();
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        StringBuilder sb = new StringBuilder("Searching for contacts matching: ").append(query);
+        if (isExplain) {
+            String planDescription = plan == null
+                    ? String.format(MESSAGE_CACHED_PLAN, matches.size())
+                    : planner.explain(plan);
+            sb.append('\n').append(planDescription)
+                    .append('\n').append(String.format(MESSAGE_QUERY_TIME, elapsedNanos / 1e6))
+                    .append('\n').append(String.format(MESSAGE_CACHE_STATISTICS, cache.getHitCount(),
+                            cache.getMissCount()));
+        }
+        sb.append('\n').append(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, resultCount));
+        return new CommandResult(sb.toString());
+    }
+
+    private static Set<Person> toIdentitySet(List<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>(persons.size()));
+        set.addAll(persons);
+        return set;
+    }
+
     /**
      * Formats the search parameters into a user-friendly string.
      */
@@ -128,11 +216,11 @@ public class FindCommand extends Command {
         // Sanity check
         assert this.predicate != null : "Predicate should not be null when comparing commands";
 
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate) && isExplain == otherFindCommand.isExplain;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("predicate", predicate).toString();
+        return new ToStringBuilder(this).add("predicate", predicate).add("isExplain", isExplain).toString();
     }
 }
@@ -17,6 +17,10 @@ public class FindCommandParser implements Parser<FindCommand> {
     public static final Prefix PREFIX_NAME = new Prefix("n/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
+
+    public static final String MESSAGE_INVALID_DATE = "Invalid date! Expected format: YYYY-MM-DD (e.g., 2025-10-20)"
+            + " or a date range YYYY-MM-DD..YYYY-MM-DD (e.g., 2025-01-01..2025-01-31)";
 
     /**
      * Parses the given {@code String} of arguments in the context of the
@@ -28,6 +32,11 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         assert args != null : "args must not be null";
 
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.startsWith(PREFIX_QUERY.getPrefix())) {
+            return new FindQueryParser().parse(trimmedArgs.substring(PREFIX_QUERY.getPrefix().length()));
+        }
+
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_DATE);
 
         Map<String, List<String>> searchCriteria = new HashMap<>();
@@ -61,8 +70,8 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         // Defensive validation: ensure all date strings are valid
         for (String dateStr : allDates) {
-            if (!dateStr.isEmpty() && !isValidDate(dateStr)) {
-                throw new ParseException("Invalid date! Expected format: YYYY-MM-DD (e.g., 2025-10-20)");
+            if (!dateStr.isEmpty() && !isValidDateOrDateRange(dateStr)) {
+                throw new ParseException(MESSAGE_INVALID_DATE);
             }
         }
 
@@ -93,4 +102,21 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
     }
 
+    /**
+     * Helper method to validate either a single date or an inclusive date range yyyy-MM-dd..yyyy-MM-dd
+     * whose start is not after its end.
+     */
+    private boolean isValidDateOrDateRange(String dateStr) {
+        String rangeSeparator = ClientContainsKeywordsPredicate.DATE_RANGE_SEPARATOR;
+        int separator = dateStr.indexOf(rangeSeparator);
+        if (separator == -1) {
+            return isValidDate(dateStr);
+        }
+
+        String start = dateStr.substring(0, separator).trim();
+        String end = dateStr.substring(separator + rangeSeparator.length()).trim();
+        return isValidDate(start) && isValidDate(end)
+                && !java.time.LocalDate.parse(start).isAfter(java.time.LocalDate.parse(end));
+    }
+
 }
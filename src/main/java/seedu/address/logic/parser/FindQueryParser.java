@@ -0,0 +1,257 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.ClientContainsKeywordsPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses a find query, the arguments of {@code find q/}, and creates a new FindCommand object.
+ * A query is made of terms such as {@code t/vip}, combined with the operators {@code AND}, {@code OR} and
+ * {@code NOT} and grouped with parentheses. {@code NOT} binds tightest and {@code OR} loosest. The value of a term
+ * runs until the next operator, parenthesis or term, so it may contain spaces. The query may start with
+ * {@code EXPLAIN} to show how it is run.
+ */
+public class FindQueryParser implements Parser<FindCommand> {
+
+    public static final String KEYWORD_EXPLAIN = "EXPLAIN";
+    public static final String KEYWORD_AND = "AND";
+    public static final String KEYWORD_OR = "OR";
+    public static final String KEYWORD_NOT = "NOT";
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid query: %1$s";
+    public static final String MESSAGE_EXPECTED_TERM = "expected a term such as n/NAME, NOT or ( at \"%1$s\"";
+    public static final String MESSAGE_EXPECTED_OPERATOR = "expected AND, OR or ) before \"%1$s\"";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "missing )";
+
+    private static final String END_OF_QUERY = "end of query";
+
+    private List<Token> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * FindCommand and returns a FindCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindCommand parse(String args) throws ParseException {
+        assert args != null : "args must not be null";
+
+        String queryText = args.trim();
+        boolean isExplain = startsWithOperator(queryText, 0, KEYWORD_EXPLAIN);
+        if (isExplain) {
+            queryText = queryText.substring(KEYWORD_EXPLAIN.length()).trim();
+        }
+        if (queryText.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        tokens = tokenize(queryText);
+        position = 0;
+        Query query = parseOr();
+        if (position < tokens.size()) {
+            throw invalidQuery(MESSAGE_EXPECTED_OPERATOR, tokens.get(position).text);
+        }
+        return new FindCommand(query, isExplain);
+    }
+
+    // or := and (OR and)*
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (nextIs(TokenType.OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    // and := not (AND not)*
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (nextIs(TokenType.AND)) {
+            position++;
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    // not := NOT not | ( or ) | term
+    private Query parseNot() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidQuery(MESSAGE_EXPECTED_TERM, END_OF_QUERY);
+        }
+
+        Token token = tokens.get(position++);
+        switch (token.type) {
+        case NOT:
+            return new NotQuery(parseNot());
+        case OPEN:
+            Query query = parseOr();
+            if (!nextIs(TokenType.CLOSE)) {
+                throw invalidQuery(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            position++;
+            return query;
+        case TERM:
+            return new FieldQuery(token.field, token.value);
+        default:
+            throw invalidQuery(MESSAGE_EXPECTED_TERM, token.text);
+        }
+    }
+
+    private boolean nextIs(TokenType type) {
+        return position < tokens.size() && tokens.get(position).type == type;
+    }
+
+    /**
+     * Splits {@code queryText} into operators, parentheses and terms.
+     *
+     * @throws ParseException if a term is not a known field or has an invalid date.
+     */
+    private static List<Token> tokenize(String queryText) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int i = skipWhitespace(queryText, 0);
+        while (i < queryText.length()) {
+            char c = queryText.charAt(i);
+            if (c == '(') {
+                tokens.add(new Token(TokenType.OPEN, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.CLOSE, ")"));
+                i++;
+            } else if (startsWithOperator(queryText, i, KEYWORD_AND)) {
+                tokens.add(new Token(TokenType.AND, KEYWORD_AND));
+                i += KEYWORD_AND.length();
+            } else if (startsWithOperator(queryText, i, KEYWORD_OR)) {
+                tokens.add(new Token(TokenType.OR, KEYWORD_OR));
+                i += KEYWORD_OR.length();
+            } else if (startsWithOperator(queryText, i, KEYWORD_NOT)) {
+                tokens.add(new Token(TokenType.NOT, KEYWORD_NOT));
+                i += KEYWORD_NOT.length();
+            } else {
+                Field field = fieldAt(queryText, i);
+                if (field == null) {
+                    throw invalidQuery(MESSAGE_EXPECTED_TERM, queryText.substring(i));
+                }
+                int valueStart = i + field.getPrefix().length();
+                int valueEnd = findValueEnd(queryText, valueStart);
+                String value = queryText.substring(valueStart, valueEnd).trim();
+                if (field == Field.DATE && !value.isEmpty()
+                        && ClientContainsKeywordsPredicate.parseDateRange(value) == null) {
+                    throw new ParseException(FindCommandParser.MESSAGE_INVALID_DATE);
+                }
+                tokens.add(new Token(field, value, queryText.substring(i, valueEnd).trim()));
+                i = valueEnd;
+            }
+            i = skipWhitespace(queryText, i);
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the end of the value starting at {@code start}: the first parenthesis, or the whitespace before the
+     * next operator or term.
+     */
+    private static int findValueEnd(String queryText, int start) {
+        int i = start;
+        while (i < queryText.length()) {
+            char c = queryText.charAt(i);
+            if (c == '(' || c == ')') {
+                return i;
+            }
+            if (!Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            int next = skipWhitespace(queryText, i);
+            if (next == queryText.length() || queryText.charAt(next) == '(' || queryText.charAt(next) == ')'
+                    || startsWithOperator(queryText, next, KEYWORD_AND)
+                    || startsWithOperator(queryText, next, KEYWORD_OR)
+                    || startsWithOperator(queryText, next, KEYWORD_NOT)
+                    || fieldAt(queryText, next) != null) {
+                return i;
+            }
+            i = next;
+        }
+        return i;
+    }
+
+    /**
+     * Returns true if {@code operator} is a whole word of {@code text} at {@code start}, ended by whitespace, a
+     * parenthesis or the end of {@code text}.
+     */
+    private static boolean startsWithOperator(String text, int start, String operator) {
+        if (!text.startsWith(operator, start)) {
+            return false;
+        }
+        int end = start + operator.length();
+        if (end == text.length()) {
+            return true;
+        }
+        char c = text.charAt(end);
+        return Character.isWhitespace(c) || c == '(' || c == ')';
+    }
+
+    private static Field fieldAt(String text, int start) {
+        for (Field field : Field.values()) {
+            if (text.startsWith(field.getPrefix(), start)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(String text, int start) {
+        int i = start;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static ParseException invalidQuery(String detail, Object... args) {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, String.format(detail, args)));
+    }
+
+    private enum TokenType {
+        OPEN, CLOSE, AND, OR, NOT, TERM
+    }
+
+    /**
+     * An operator, parenthesis or term of a query, with the text it was read from.
+     */
+    private static class Token {
+        private final TokenType type;
+        private final String text;
+        private final Field field; // null unless a term
+        private final String value; // null unless a term
+
+        Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+            this.field = null;
+            this.value = null;
+        }
+
+        Token(Field field, String value, String text) {
+            this.type = TokenType.TERM;
+            this.text = text;
+            this.field = field;
+            this.value = value;
+        }
+    }
+}
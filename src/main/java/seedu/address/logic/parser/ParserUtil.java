@@ -51,7 +51,7 @@ public class ParserUtil {
         if (trimmedName.length() > Name.MAX_NAME_LENGTH) {
             throw new ParseException(Name.MESSAGE_LENGTH_CONSTRAINT);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -121,7 +121,7 @@ public class ParserUtil {
         if (trimmedTag.length() > Tag.MAX_TAG_LENGTH) {
             throw new ParseException(Tag.MESSAGE_LENGTH_CONSTRAINT);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
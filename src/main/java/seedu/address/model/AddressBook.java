@@ -2,20 +2,35 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.booking.BookingTimeIndex;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Every change to the persons is counted, so callers can tell whether the address book changed since they last
+ * looked at it.
+ * The booking time index is built on the first query by time, so that the bookings of persons read from storage are
+ * not decoded before they are needed.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final BookingTimeIndex bookingTimeIndex;
+    private final TagIndex tagIndex;
+    private boolean isBookingTimeIndexBuilt;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +41,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        bookingTimeIndex = new BookingTimeIndex();
+        tagIndex = new TagIndex();
     }
 
     public AddressBook() {}
@@ -46,6 +63,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        bookingTimeIndex.clear();
+        isBookingTimeIndexBuilt = false;
+        tagIndex.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -73,6 +94,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (isBookingTimeIndexBuilt) {
+            bookingTimeIndex.add(p);
+        }
+        tagIndex.add(p);
+        modificationCount++;
     }
 
     /**
@@ -83,7 +109,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person replacedPerson = persons.setPerson(target, editedPerson);
+        if (isBookingTimeIndexBuilt) {
+            bookingTimeIndex.remove(replacedPerson);
+            bookingTimeIndex.add(editedPerson);
+        }
+        tagIndex.remove(replacedPerson);
+        tagIndex.add(editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -91,7 +124,80 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        Person removedPerson = persons.remove(key);
+        if (isBookingTimeIndexBuilt) {
+            bookingTimeIndex.remove(removedPerson);
+        }
+        tagIndex.remove(removedPerson);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to the persons of this address book since it was created.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the persons with at least one booking from {@code start} (inclusive) to {@code end} (exclusive).
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        buildBookingTimeIndex();
+        return bookingTimeIndex.getPersonsWithBookingsBetween(start, end);
+    }
+
+    /**
+     * Returns the number of bookings from {@code start} (inclusive) to {@code end} (exclusive).
+     */
+    public int countBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        buildBookingTimeIndex();
+        return bookingTimeIndex.countBookingsBetween(start, end);
+    }
+
+    private void buildBookingTimeIndex() {
+        if (!isBookingTimeIndexBuilt) {
+            bookingTimeIndex.setPersons(persons.asUnmodifiableObservableList());
+            isBookingTimeIndexBuilt = true;
+        }
+    }
+
+    /**
+     * Returns the person named exactly {@code name}, if any.
+     */
+    public Optional<Person> getPerson(Name name) {
+        return persons.getPerson(name);
+    }
+
+    /**
+     * Returns the persons whose name contains {@code keyword}, ignoring case, in address book order.
+     */
+    public List<Person> getPersonsWithNameContaining(String keyword) {
+        return persons.getPersonsWithNameContaining(keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code keyword}, ignoring case, from the
+     * name index alone.
+     */
+    public int estimatePersonsWithNameContaining(String keyword) {
+        return persons.estimatePersonsWithNameContaining(keyword);
+    }
+
+    /**
+     * Returns the persons with a tag whose name contains {@code keyword}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithTagContaining(String keyword) {
+        return tagIndex.getPersonsWithTagContaining(keyword);
+    }
+
+    /**
+     * Returns the number of persons carrying each tag, keyed by the lower case tag name and ordered by it.
+     */
+    public Map<String, Integer> getTagCounts() {
+        return tagIndex.getTagCounts();
     }
 
     //// util methods
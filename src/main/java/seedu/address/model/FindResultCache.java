@@ -0,0 +1,188 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A cache of the persons matched by recent searches, keyed by the normalized criteria of each search and evicting
+ * the least recently used search when full.
+ * Every cached result is of the address book at the same modification count. When told of a change made at that
+ * count, as {@code ModelManager} does, the cache patches each result by testing only the changed persons and moves
+ * on to the new count. Results of any other count are discarded when next used, as they may have missed changes.
+ */
+public class FindResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<Object, Entry> entries;
+    private long version;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache of the results of up to {@code capacity} searches.
+     */
+    public FindResultCache(int capacity) {
+        checkArgument(capacity > 0, "The capacity must be positive.");
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public FindResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the persons matched by the search keyed by {@code key} in the address book at modification count
+     * {@code addressBookVersion}, if cached. The returned set is a copy that compares persons by reference.
+     */
+    public Optional<Set<Person>> get(Object key, long addressBookVersion) {
+        requireNonNull(key);
+        moveTo(addressBookVersion);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(copyOf(entry.matches));
+    }
+
+    /**
+     * Caches {@code matches}, the persons matching {@code predicate} in the address book at modification count
+     * {@code addressBookVersion}, as the result of the search keyed by {@code key}.
+     * {@code predicate} is kept to patch the result as the address book changes.
+     */
+    public void put(Object key, Predicate<Person> predicate, Set<Person> matches, long addressBookVersion) {
+        requireAllNonNull(key, predicate, matches);
+        moveTo(addressBookVersion);
+        entries.put(key, new Entry(predicate, copyOf(matches)));
+    }
+
+    /**
+     * Records that {@code person} was added to the address book, moving it from modification count
+     * {@code fromVersion} to {@code toVersion}.
+     */
+    void add(Person person, long fromVersion, long toVersion) {
+        requireNonNull(person);
+        if (moveTo(fromVersion)) {
+            entries.values().forEach(entry -> entry.add(person));
+        }
+        version = toVersion;
+    }
+
+    /**
+     * Records that {@code person} was removed from the address book, moving it from modification count
+     * {@code fromVersion} to {@code toVersion}.
+     */
+    void remove(Person person, long fromVersion, long toVersion) {
+        requireNonNull(person);
+        if (moveTo(fromVersion)) {
+            entries.values().forEach(entry -> entry.remove(person));
+        }
+        version = toVersion;
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedPerson} in the address book, moving it from
+     * modification count {@code fromVersion} to {@code toVersion}.
+     */
+    void replace(Person target, Person editedPerson, long fromVersion, long toVersion) {
+        requireAllNonNull(target, editedPerson);
+        if (moveTo(fromVersion)) {
+            entries.values().forEach(entry -> {
+                entry.remove(target);
+                entry.add(editedPerson);
+            });
+        }
+        version = toVersion;
+    }
+
+    /**
+     * Discards every cached result.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of searches answered from the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of searches that were not cached, or whose result was discarded.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of cached results.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Makes the cached results those of modification count {@code addressBookVersion}, discarding them if they are
+     * of another count. Returns true if they were kept.
+     */
+    private boolean moveTo(long addressBookVersion) {
+        if (addressBookVersion == version) {
+            return true;
+        }
+        entries.clear();
+        version = addressBookVersion;
+        return false;
+    }
+
+    private static Set<Person> copyOf(Set<Person> persons) {
+        Set<Person> copy = Collections.newSetFromMap(new IdentityHashMap<>(persons.size()));
+        copy.addAll(persons);
+        return copy;
+    }
+
+    /**
+     * The persons matched by a search, with the predicate that patches them.
+     */
+    private static class Entry {
+        private final Predicate<Person> predicate;
+        private final Set<Person> matches; // compares persons by reference
+
+        Entry(Predicate<Person> predicate, Set<Person> matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+        }
+
+        void add(Person person) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+
+        void remove(Person person) {
+            // An equal person that is not the cached instance is only searched for if it could have matched
+            if (!matches.remove(person) && predicate.test(person)) {
+                matches.removeIf(match -> match.equals(person));
+            }
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -76,9 +82,81 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the person in the address book named exactly {@code name}, if any, looked up from the address book's
+     * index of names.
+     */
+    Optional<Person> getPerson(Name name);
+
+    /**
+     * Returns the cache of the persons matched by recent searches, which is kept up to date as the address book
+     * changes.
+     */
+    FindResultCache getFindResultCache();
+
+    /**
+     * Returns the persons in the address book with at least one booking from {@code start} (inclusive)
+     * to {@code end} (exclusive), looked up from the address book's booking time index.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithBookingsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the number of bookings in the address book from {@code start} (inclusive) to {@code end} (exclusive),
+     * counted from the address book's booking time index.
+     */
+    int countBookingsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the persons in the address book whose name contains {@code keyword}, ignoring case, in address book
+     * order, looked up from the address book's name index.
+     */
+    List<Person> getPersonsWithNameContaining(String keyword);
+
+    /**
+     * Returns an upper bound on the number of persons in the address book whose name contains {@code keyword},
+     * ignoring case, estimated from the address book's name index without checking any name.
+     */
+    int estimatePersonsWithNameContaining(String keyword);
+
+    /**
+     * Returns the persons in the address book with a tag whose name contains {@code keyword}, ignoring case,
+     * looked up from the address book's tag index.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithTagContaining(String keyword);
+
+    /**
+     * Returns the number of persons carrying each tag, keyed by the lower case tag name and ordered by it.
+     */
+    Map<String, Integer> getTagCounts();
+
+    /**
+     * Returns the number of changes made to the address book so far.
+     * The count only grows, so an unchanged count means the address book has not changed.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Returns the time that bookings are shown as past or upcoming at. Commands number the bookings of a person
+     * against the same time, so that the numbers refer to the bookings as they were last shown.
+     */
+    LocalDateTime getBookingDisplayTime();
+
+    /**
+     * Sets the time that bookings are shown as past or upcoming at to {@code bookingDisplayTime}.
+     */
+    void setBookingDisplayTime(LocalDateTime bookingDisplayTime);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns true if {@code person}, a person in the address book, is in the filtered person list.
+     * Unlike searching the filtered person list, this takes constant time.
+     */
+    boolean isInFilteredPersonList(Person person);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
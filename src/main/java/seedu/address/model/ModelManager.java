@@ -4,6 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,6 +16,7 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -22,6 +28,8 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final FindResultCache findResultCache = new FindResultCache();
+    private LocalDateTime bookingDisplayTime = LocalDateTime.now(); // until set from the clock of the logic
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -80,6 +88,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        findResultCache.clear();
     }
 
     @Override
@@ -95,12 +104,16 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        long version = addressBook.getModificationCount();
         addressBook.removePerson(target);
+        findResultCache.remove(target, version, addressBook.getModificationCount());
     }
 
     @Override
     public void addPerson(Person person) {
+        long version = addressBook.getModificationCount();
         addressBook.addPerson(person);
+        findResultCache.add(person, version, addressBook.getModificationCount());
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -108,7 +121,71 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        long version = addressBook.getModificationCount();
         addressBook.setPerson(target, editedPerson);
+        findResultCache.replace(target, editedPerson, version, addressBook.getModificationCount());
+    }
+
+    @Override
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        return addressBook.getPerson(name);
+    }
+
+    @Override
+    public FindResultCache getFindResultCache() {
+        return findResultCache;
+    }
+
+    @Override
+    public Set<Person> getPersonsWithBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return addressBook.getPersonsWithBookingsBetween(start, end);
+    }
+
+    @Override
+    public int countBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return addressBook.countBookingsBetween(start, end);
+    }
+
+    @Override
+    public List<Person> getPersonsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.getPersonsWithNameContaining(keyword);
+    }
+
+    @Override
+    public int estimatePersonsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.estimatePersonsWithNameContaining(keyword);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTagContaining(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.getPersonsWithTagContaining(keyword);
+    }
+
+    @Override
+    public Map<String, Integer> getTagCounts() {
+        return addressBook.getTagCounts();
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public LocalDateTime getBookingDisplayTime() {
+        return bookingDisplayTime;
+    }
+
+    @Override
+    public void setBookingDisplayTime(LocalDateTime bookingDisplayTime) {
+        requireNonNull(bookingDisplayTime);
+        this.bookingDisplayTime = bookingDisplayTime;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -122,6 +199,13 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public boolean isInFilteredPersonList(Person person) {
+        requireNonNull(person);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate.test(person);
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
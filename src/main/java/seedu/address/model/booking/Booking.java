@@ -8,10 +8,16 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.util.Objects;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.WeakValuePool;
 
 /**
  * Represents a Booking in the address book.
  * Guarantees: immutable; fields are validated and not null.
+ * A booking added to a person is given an ID that identifies it among that person's bookings and stays the same
+ * across edits, saves and loads. The ID is not part of the booking's value: bookings with the same client, datetime
+ * and description are equal regardless of their IDs.
  */
 public class Booking {
     public static final String MESSAGE_CONSTRAINTS_DATETIME =
@@ -22,15 +28,25 @@ public class Booking {
     public static final String MESSAGE_CONSTRAINTS_DESCRIPTION =
             "Booking description must be between 1 and 500 characters long.";
 
+    public static final String MESSAGE_CONSTRAINTS_ID = "Booking ID must be a positive integer.";
+
+    /** The ID of a booking that has not been added to a person yet. */
+    public static final int UNASSIGNED_ID = 0;
+
     public static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
             .withResolverStyle(ResolverStyle.STRICT);
 
     // Validation regex for client name - can contain any characters
-    private static final String CLIENT_NAME_VALIDATION_REGEX = ".+";
+    private static final Pattern CLIENT_NAME_VALIDATION_PATTERN = Pattern.compile(".+");
 
+    // Normalized client names, shared between all bookings with the same client
+    private static final WeakValuePool<String, String> CLIENT_NAMES = new WeakValuePool<>();
+
+    private final int id;
     private final String clientName;
     private final LocalDateTime datetime;
     private final String description;
+    private final int hashCode;
 
     /**
      * Constructs a {@code Booking}.
@@ -40,6 +56,19 @@ public class Booking {
      * @param description Description of the booking.
      */
     public Booking(String clientName, LocalDateTime datetime, String description) {
+        this(UNASSIGNED_ID, clientName, datetime, description);
+    }
+
+    /**
+     * Constructs a {@code Booking} with a known ID.
+     *
+     * @param id ID of the booking, or {@link #UNASSIGNED_ID}.
+     * @param clientName Client name for the booking.
+     * @param datetime DateTime of the booking.
+     * @param description Description of the booking.
+     */
+    public Booking(int id, String clientName, LocalDateTime datetime, String description) {
+        checkArgument(id >= UNASSIGNED_ID, MESSAGE_CONSTRAINTS_ID);
         requireNonNull(clientName);
         requireNonNull(datetime);
         requireNonNull(description);
@@ -47,9 +76,23 @@ public class Booking {
         checkArgument(isValidClientName(clientName), MESSAGE_CONSTRAINTS_CLIENT);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS_DESCRIPTION);
 
-        this.clientName = clientName.trim().replaceAll("\\s+", " "); // Normalize spaces
+        this.id = id;
+        // The pool holds its keys strongly, so it shares a copy of the normalized name that it can reclaim
+        this.clientName = CLIENT_NAMES.computeIfAbsent(normalizeClientName(clientName), String::new);
         this.datetime = datetime;
         this.description = description.trim();
+        this.hashCode = Objects.hash(this.clientName, datetime, this.description);
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given ID. The fields of {@code source} are already valid.
+     */
+    private Booking(Booking source, int id) {
+        this.id = id;
+        this.clientName = source.clientName;
+        this.datetime = source.datetime;
+        this.description = source.description;
+        this.hashCode = source.hashCode;
     }
 
     /**
@@ -63,7 +106,48 @@ public class Booking {
         if (trimmed.length() < 1 || trimmed.length() > 100) {
             return false;
         }
-        return trimmed.matches(CLIENT_NAME_VALIDATION_REGEX);
+        return CLIENT_NAME_VALIDATION_PATTERN.matcher(trimmed).matches();
+    }
+
+    /**
+     * Returns {@code clientName} trimmed, with each run of whitespace in it collapsed into a single space.
+     * A name already in that form, as nearly every name is, is returned without being copied.
+     */
+    private static String normalizeClientName(String clientName) {
+        String trimmed = clientName.trim();
+        if (isNormalized(trimmed)) {
+            return trimmed;
+        }
+        StringBuilder normalized = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (!isWhitespace(c)) {
+                normalized.append(c);
+            } else if (normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns true if the trimmed {@code name} has no whitespace other than single spaces.
+     */
+    private static boolean isNormalized(String name) {
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isWhitespace(c) && (c != ' ' || name.charAt(i - 1) == ' ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -167,6 +251,22 @@ public class Booking {
         return datetime.isAfter(LocalDateTime.now());
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns a copy of this booking with the ID {@code id}.
+     */
+    public Booking withId(int id) {
+        checkArgument(id > UNASSIGNED_ID, MESSAGE_CONSTRAINTS_ID);
+        return id == this.id ? this : new Booking(this, id);
+    }
+
     public String getClientName() {
         return clientName;
     }
@@ -201,14 +301,15 @@ public class Booking {
         }
 
         Booking otherBooking = (Booking) other;
-        return clientName.equals(otherBooking.clientName)
+        return hashCode == otherBooking.hashCode
+                && clientName.equals(otherBooking.clientName)
                 && datetime.equals(otherBooking.datetime)
                 && description.equals(otherBooking.description);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(clientName, datetime, description);
+        return hashCode;
     }
 
     @Override
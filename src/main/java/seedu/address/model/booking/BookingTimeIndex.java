@@ -0,0 +1,158 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the bookings of every person in an address book, keyed by booking datetime.
+ * Answers "who has a booking in this time range" without visiting persons or bookings outside the range.
+ * The bookings of a person before its archive horizon are not indexed, so that they need not be decoded. The persons
+ * with such bookings are kept by horizon, and a range that starts before the horizon of some persons checks the
+ * bookings of those persons directly; the rest are not visited.
+ * The index holds persons by reference, so it must be updated whenever a person is added, replaced or removed, and a
+ * person is removed by the same instance that was added.
+ */
+public class BookingTimeIndex {
+
+    private final NavigableMap<LocalDateTime, List<Person>> personsByDateTime = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, Set<Person>> personsByArchiveHorizon = new TreeMap<>();
+    private int bookingCount = 0;
+
+    /**
+     * Adds all bookings of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        LocalDateTime archiveHorizon = person.getArchiveHorizon();
+        if (!archiveHorizon.equals(LocalDateTime.MIN)) {
+            personsByArchiveHorizon.computeIfAbsent(archiveHorizon,
+                    unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+        for (Booking booking : getIndexedBookings(person)) {
+            personsByDateTime.computeIfAbsent(booking.getDateTime(), unused -> new ArrayList<>(1)).add(person);
+            bookingCount++;
+        }
+    }
+
+    /**
+     * Removes all bookings of {@code person}, the instance that was added, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Set<Person> personsWithHorizon = personsByArchiveHorizon.get(person.getArchiveHorizon());
+        if (personsWithHorizon != null && personsWithHorizon.remove(person) && personsWithHorizon.isEmpty()) {
+            personsByArchiveHorizon.remove(person.getArchiveHorizon());
+        }
+        for (Booking booking : getIndexedBookings(person)) {
+            List<Person> persons = personsByDateTime.get(booking.getDateTime());
+            if (persons == null || !persons.removeIf(indexed -> indexed == person)) {
+                continue;
+            }
+            bookingCount--;
+            if (persons.isEmpty()) {
+                personsByDateTime.remove(booking.getDateTime());
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the bookings of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Removes every booking from the index.
+     */
+    public void clear() {
+        personsByDateTime.clear();
+        personsByArchiveHorizon.clear();
+        bookingCount = 0;
+    }
+
+    /**
+     * Returns the persons with at least one booking from {@code start} (inclusive) to {@code end} (exclusive).
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!start.isBefore(end)) {
+            return persons;
+        }
+        for (List<Person> personsAtDateTime : personsByDateTime.subMap(start, true, end, false).values()) {
+            persons.addAll(personsAtDateTime);
+        }
+        for (Set<Person> personsWithHorizon : personsByArchiveHorizon.tailMap(start, false).values()) {
+            for (Person person : personsWithHorizon) {
+                if (!getArchivedBookingsBetween(person, start, end).isEmpty()) {
+                    persons.add(person);
+                }
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of bookings from {@code start} (inclusive) to {@code end} (exclusive).
+     */
+    public int countBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (!start.isBefore(end)) {
+            return 0;
+        }
+        int count = 0;
+        for (List<Person> personsAtDateTime : personsByDateTime.subMap(start, true, end, false).values()) {
+            count += personsAtDateTime.size();
+        }
+        for (Set<Person> personsWithHorizon : personsByArchiveHorizon.tailMap(start, false).values()) {
+            for (Person person : personsWithHorizon) {
+                count += getArchivedBookingsBetween(person, start, end).size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the bookings of {@code person} that are indexed: those at or after its archive horizon.
+     */
+    private static List<Booking> getIndexedBookings(Person person) {
+        LocalDateTime archiveHorizon = person.getArchiveHorizon();
+        return archiveHorizon.equals(LocalDateTime.MIN)
+                ? person.getBookings()
+                : person.getBookingsBetween(archiveHorizon, LocalDateTime.MAX);
+    }
+
+    /**
+     * Returns the bookings of {@code person} before its archive horizon, which {@code start} must be before, from
+     * {@code start} (inclusive) to {@code end} (exclusive).
+     */
+    private static List<Booking> getArchivedBookingsBetween(Person person, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime archiveHorizon = person.getArchiveHorizon();
+        return person.getBookingsBetween(start, end.isBefore(archiveHorizon) ? end : archiveHorizon);
+    }
+
+    /**
+     * Returns the total number of indexed bookings, which leaves out the bookings before the archive horizon of each
+     * person.
+     */
+    public int size() {
+        return bookingCount;
+    }
+}
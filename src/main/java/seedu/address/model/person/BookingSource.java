@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.model.booking.Booking;
+
+/**
+ * The bookings of a person as held by storage, decoded into {@code Booking}s only when they are needed.
+ */
+public interface BookingSource {
+
+    /**
+     * Returns the number of bookings, without decoding them.
+     */
+    int size();
+
+    /**
+     * Decodes the bookings at or after {@code from}, or all the bookings if {@code from} is null.
+     * Bookings without an ID may be returned as they are; they are given IDs by the person.
+     *
+     * @throws IllegalArgumentException if a booking is invalid.
+     */
+    List<Booking> decode(LocalDateTime from);
+}
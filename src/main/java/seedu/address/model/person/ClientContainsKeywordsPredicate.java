@@ -1,21 +1,71 @@
 package seedu.address.model.person;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.model.Model;
+
 /**
  * Tests that a {@code Person} matches all of the given search criteria. The
  * search criteria map contains field types (e.g. "name", "tag", "date") mapped
  * to lists of keywords.
+ * A date keyword is either a single {@code YYYY-MM-DD} date or an inclusive range of the form
+ * {@code YYYY-MM-DD..YYYY-MM-DD}.
  */
 public class ClientContainsKeywordsPredicate implements Predicate<Person> {
 
+    public static final String DATE_RANGE_SEPARATOR = "..";
+
     private final Map<String, List<String>> searchCriteria;
 
+    // The criteria compiled once, so that testing a person allocates nothing for names, tags and full dates.
+    // A null array means the field is not searched; an empty one means any value of the field matches.
+    private final String[] nameKeywords; // in lower case
+    private final String[] tagKeywords; // in lower case
+    private final LocalDateTime[] dateRangeStarts; // inclusive
+    private final LocalDateTime[] dateRangeEnds; // exclusive
+    private final String[] partialDateKeywords; // date keywords that are not full dates or date ranges
+
+    /**
+     * Creates a predicate of {@code searchCriteria}, compiling its keywords for testing persons against.
+     */
     public ClientContainsKeywordsPredicate(Map<String, List<String>> searchCriteria) {
         this.searchCriteria = searchCriteria;
+        nameKeywords = toLowerCase(searchCriteria.get("name"));
+        tagKeywords = toLowerCase(searchCriteria.get("tag"));
+
+        List<String> dateKeywords = searchCriteria.get("date");
+        if (dateKeywords == null) {
+            dateRangeStarts = null;
+            dateRangeEnds = null;
+            partialDateKeywords = null;
+            return;
+        }
+        List<LocalDateTime> starts = new ArrayList<>();
+        List<LocalDateTime> ends = new ArrayList<>();
+        List<String> partialDates = new ArrayList<>();
+        for (String dateStr : dateKeywords) {
+            LocalDate[] range = parseDateRange(dateStr);
+            if (range == null) {
+                partialDates.add(dateStr);
+            } else {
+                starts.add(range[0].atStartOfDay());
+                ends.add(range[1].plusDays(1).atStartOfDay());
+            }
+        }
+        dateRangeStarts = starts.toArray(new LocalDateTime[0]);
+        dateRangeEnds = ends.toArray(new LocalDateTime[0]);
+        partialDateKeywords = partialDates.toArray(new String[0]);
     }
 
     @Override
@@ -25,44 +75,150 @@ public class ClientContainsKeywordsPredicate implements Predicate<Person> {
             return true;
         }
 
-        // Otherwise, check each field
-        return searchCriteria.entrySet().stream().anyMatch(entry -> {
-            String fieldType = entry.getKey();
-            List<String> keywords = entry.getValue();
-
-            return switch (fieldType) {
-            case "name" -> matchesName(person, keywords);
-            case "tag" -> matchesTag(person, keywords);
-            case "date" -> matchesDate(person, keywords);
-            default -> false;
-            };
-        });
+        // Otherwise, match any of the searched fields
+        return matchesName(person) || matchesTag(person) || matchesDate(person);
     }
 
-    private boolean matchesName(Person person, List<String> keywords) {
-        if (keywords.isEmpty()) {
+    private boolean matchesName(Person person) {
+        if (nameKeywords == null) {
+            return false;
+        }
+        if (nameKeywords.length == 0) {
             return true;
         }
-        String fullName = person.getName().fullName.toLowerCase();
-        return keywords.stream().map(String::toLowerCase).anyMatch(fullName::contains);
+        String fullName = person.getLowerCaseName();
+        for (String keyword : nameKeywords) {
+            if (fullName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private boolean matchesTag(Person person, List<String> keywords) {
-        if (keywords.isEmpty()) {
+    private boolean matchesTag(Person person) {
+        if (tagKeywords == null) {
+            return false;
+        }
+        if (tagKeywords.length == 0) {
             return !person.getTags().isEmpty();
         }
-        return keywords.stream().map(String::toLowerCase).anyMatch(kw -> person.getTags().stream()
-                                        .map(tag -> tag.tagName.toLowerCase()).anyMatch(tag -> tag.contains(kw)));
+        List<String> tagNames = person.getLowerCaseTagNames();
+        for (String keyword : tagKeywords) {
+            for (int i = 0; i < tagNames.size(); i++) {
+                if (tagNames.get(i).contains(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesDate(Person person) {
+        if (dateRangeStarts == null) {
+            return false;
+        }
+        if (dateRangeStarts.length == 0 && partialDateKeywords.length == 0) {
+            return person.hasBookings();
+        }
+        for (int i = 0; i < dateRangeStarts.length; i++) {
+            if (person.hasBookingBetween(dateRangeStarts[i], dateRangeEnds[i])) {
+                return true;
+            }
+        }
+        for (String dateStr : partialDateKeywords) {
+            boolean hasBookingOnDate = person.getBookings().stream().anyMatch(booking -> {
+                String bookingDate = booking.getDateTime().toLocalDate().toString();
+                return bookingDate.contains(dateStr);
+            });
+            if (hasBookingOnDate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code keywords} in lower case, or null if {@code keywords} is null.
+     */
+    private static String[] toLowerCase(List<String> keywords) {
+        return keywords == null ? null : keywords.stream().map(String::toLowerCase).toArray(String[]::new);
+    }
+
+    /**
+     * Returns a predicate equivalent to this one, with the name, date and tag criteria answered from the indexes of
+     * {@code model} instead of by scanning the names, bookings and tags of every person. Persons added or edited
+     * after the indexes are looked up are tested with this predicate.
+     */
+    public Predicate<Person> resolve(Model model) {
+        Set<Person> indexedMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, List<String>> otherCriteria = new HashMap<>(searchCriteria);
+
+        List<String> nameKeywords = searchCriteria.get("name");
+        if (nameKeywords != null && !nameKeywords.isEmpty()) {
+            nameKeywords.forEach(keyword -> indexedMatches.addAll(model.getPersonsWithNameContaining(keyword)));
+            otherCriteria.remove("name");
+        }
+
+        List<String> dateKeywords = searchCriteria.get("date");
+        if (dateKeywords != null && !dateKeywords.isEmpty()) {
+            Set<Person> personsOnDates = findPersonsOnDates(model, dateKeywords);
+            if (personsOnDates != null) {
+                indexedMatches.addAll(personsOnDates);
+                otherCriteria.remove("date");
+            }
+        }
+
+        List<String> tagKeywords = searchCriteria.get("tag");
+        if (tagKeywords != null && !tagKeywords.isEmpty()) {
+            tagKeywords.forEach(keyword -> indexedMatches.addAll(model.getPersonsWithTagContaining(keyword)));
+            otherCriteria.remove("tag");
+        }
+
+        if (otherCriteria.size() == searchCriteria.size()) {
+            return this;
+        }
+        if (otherCriteria.isEmpty()) {
+            return new MatchedPersonsPredicate(model, indexedMatches, this);
+        }
+        return new MatchedPersonsPredicate(model, indexedMatches, this,
+                new ClientContainsKeywordsPredicate(otherCriteria));
+    }
+
+    /**
+     * Returns the persons with a booking on any of the dates in {@code dateKeywords}, or null if any keyword is not
+     * a full date or date range.
+     */
+    private static Set<Person> findPersonsOnDates(Model model, List<String> dateKeywords) {
+        Set<Person> personsOnDates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String dateStr : dateKeywords) {
+            LocalDate[] range = parseDateRange(dateStr);
+            if (range == null) {
+                // Not a full date, e.g. a partial date from a custom predicate; keep the scan for correctness
+                return null;
+            }
+            personsOnDates.addAll(model.getPersonsWithBookingsBetween(range[0].atStartOfDay(),
+                    range[1].plusDays(1).atStartOfDay()));
+        }
+        return personsOnDates;
     }
 
-    private boolean matchesDate(Person person, List<String> keywords) {
-        if (keywords.isEmpty()) {
-            return !person.getBookings().isEmpty();
+    /**
+     * Parses {@code dateStr} as either a single date or an inclusive date range.
+     * Returns the first and last date of the range, or null if {@code dateStr} is neither.
+     */
+    public static LocalDate[] parseDateRange(String dateStr) {
+        int separator = dateStr.indexOf(DATE_RANGE_SEPARATOR);
+        try {
+            if (separator == -1) {
+                LocalDate date = LocalDate.parse(dateStr);
+                return new LocalDate[] {date, date};
+            }
+            LocalDate start = LocalDate.parse(dateStr.substring(0, separator).trim());
+            LocalDate end = LocalDate.parse(dateStr.substring(separator + DATE_RANGE_SEPARATOR.length()).trim());
+            return start.isAfter(end) ? null : new LocalDate[] {start, end};
+        } catch (DateTimeParseException e) {
+            return null;
         }
-        return keywords.stream().anyMatch(dateStr -> person.getBookings().stream().anyMatch(booking -> {
-            String bookingDate = booking.getDateTime().toLocalDate().toString();
-            return bookingDate.contains(dateStr);
-        }));
     }
 
     @Override
@@ -80,6 +236,24 @@ public class ClientContainsKeywordsPredicate implements Predicate<Person> {
         return searchCriteria;
     }
 
+    /**
+     * Returns the search criteria in the form they are matched in: name and tag keywords in lower case, and the
+     * keywords of each field sorted without duplicates. Predicates with equal normalized criteria match the same
+     * persons.
+     */
+    public Map<String, List<String>> getNormalizedCriteria() {
+        Map<String, List<String>> normalizedCriteria = new HashMap<>();
+        searchCriteria.forEach((field, keywords) -> {
+            boolean isIgnoringCase = field.equals("name") || field.equals("tag");
+            normalizedCriteria.put(field, keywords.stream()
+                    .map(keyword -> isIgnoringCase ? keyword.toLowerCase() : keyword)
+                    .distinct()
+                    .sorted()
+                    .toList());
+        });
+        return normalizedCriteria;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("ClientContainsKeywordsPredicate with criteria: ");
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.booking.Booking;
+
+/**
+ * An unmodifiable view of a person's bookings in the order they are shown to the user: the upcoming bookings
+ * (after a given "now") first, then the past bookings, each in chronological order.
+ * The view reads the person's datetime-ordered bookings directly, so creating it only locates the boundary between
+ * past and upcoming bookings, and nothing is sorted. The boundary is fixed when the view is created, so one view
+ * gives the same order for the whole of a command or render pass.
+ */
+public final class DisplayedBookings extends AbstractList<Booking> implements RandomAccess {
+
+    private final PersistentSortedMap<LocalDateTime, Booking> bookings;
+    private final int pastCount;
+    private final int upcomingCount;
+
+    DisplayedBookings(PersistentSortedMap<LocalDateTime, Booking> bookings, LocalDateTime now) {
+        this.bookings = bookings;
+        this.pastCount = bookings.countAtOrBefore(now);
+        this.upcomingCount = bookings.size() - pastCount;
+    }
+
+    @Override
+    public Booking get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return bookings.valueAt(index < upcomingCount ? pastCount + index : index - upcomingCount);
+    }
+
+    @Override
+    public int size() {
+        return bookings.size();
+    }
+
+    /**
+     * Returns the number of upcoming bookings, which are the first bookings of this view.
+     */
+    public int getUpcomingCount() {
+        return upcomingCount;
+    }
+
+    /**
+     * Returns true if the booking at {@code index} (0-based) is not after the "now" of this view.
+     */
+    public boolean isPast(int index) {
+        return index >= upcomingCount;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+
+/**
+ * Tests that a {@code Person} is among the persons found to match a predicate in the address book of a model, such
+ * as by looking them up from its indexes, so that filtering the persons does not test each of them again.
+ * The persons found only answer for the address book as it was when they were found. Once it changes, a person who
+ * is not among them, such as one added or edited since, is tested with the predicate itself, so a filtered list
+ * showing the matches stays correct as the address book changes.
+ */
+public class MatchedPersonsPredicate implements Predicate<Person> {
+
+    private final Model model;
+    private final long addressBookVersion;
+    private final Set<Person> matches;
+    private final Predicate<Person> predicate;
+    private final Predicate<Person> unmatchedPredicate;
+
+    /**
+     * Creates a predicate of {@code matches}, every person matching {@code predicate} in the address book of
+     * {@code model} as it is now.
+     */
+    public MatchedPersonsPredicate(Model model, Set<Person> matches, Predicate<Person> predicate) {
+        this(model, matches, predicate, person -> false);
+    }
+
+    /**
+     * Creates a predicate of {@code matches}, some of the persons matching {@code predicate} in the address book of
+     * {@code model} as it is now. Until the address book changes, the other matches are those of the persons not
+     * among {@code matches} that match {@code unmatchedPredicate}.
+     */
+    public MatchedPersonsPredicate(Model model, Set<Person> matches, Predicate<Person> predicate,
+            Predicate<Person> unmatchedPredicate) {
+        requireAllNonNull(model, matches, predicate, unmatchedPredicate);
+        this.model = model;
+        this.addressBookVersion = model.getAddressBookModificationCount();
+        this.matches = matches;
+        this.predicate = predicate;
+        this.unmatchedPredicate = unmatchedPredicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (matches.contains(person)) {
+            // Persons are immutable, so a person that matched still matches
+            return true;
+        }
+        return model.getAddressBookModificationCount() == addressBookVersion
+                ? unmatchedPredicate.test(person)
+                : predicate.test(person);
+    }
+}
@@ -3,9 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakValuePool;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
+ * Names created with {@link #of(String)} are shared between all users of the same name.
  */
 public class Name {
 
@@ -20,6 +23,8 @@ public class Name {
      */
     private static final String VALIDATION_REGEX = ".+";
 
+    private static final WeakValuePool<String, Name> POOL = new WeakValuePool<>();
+
     public final String fullName;
 
     /**
@@ -34,6 +39,17 @@ public class Name {
         fullName = name.replaceAll("\\s+", " ");
     }
 
+    /**
+     * Returns the shared {@code Name} for {@code name}, creating it if it is not in use yet.
+     * Only a newly created name is validated and normalized.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        return POOL.computeIfAbsent(name, Name::new);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
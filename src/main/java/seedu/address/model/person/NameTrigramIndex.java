@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from every three-character substring (trigram) of the lower case {@code Name#fullName} values in a
+ * {@code UniquePersonList} to the names containing it.
+ * A substring query of at least {@link #GRAM_SIZE} characters intersects the names of each of its trigrams and only
+ * verifies the remaining candidates, instead of checking every name. Shorter queries must be answered by scanning.
+ */
+class NameTrigramIndex {
+
+    public static final int GRAM_SIZE = 3;
+
+    private final Map<String, Set<Name>> namesByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    public void add(Name name) {
+        for (String trigram : trigramsOf(toKey(name))) {
+            namesByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index.
+     */
+    public void remove(Name name) {
+        for (String trigram : trigramsOf(toKey(name))) {
+            Set<Name> names = namesByTrigram.get(trigram);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                namesByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        namesByTrigram.clear();
+    }
+
+    /**
+     * Returns the indexed names containing {@code lowerCaseQuery}, ignoring case.
+     * {@code lowerCaseQuery} must be in lower case and have at least {@link #GRAM_SIZE} characters.
+     */
+    public Set<Name> getNamesContaining(String lowerCaseQuery) {
+        assert lowerCaseQuery.length() >= GRAM_SIZE;
+
+        Set<String> queryTrigrams = trigramsOf(lowerCaseQuery);
+        Set<Name> smallest = null;
+        for (String trigram : queryTrigrams) {
+            Set<Name> names = namesByTrigram.get(trigram);
+            if (names == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || names.size() < smallest.size()) {
+                smallest = names;
+            }
+        }
+
+        Set<Name> matches = new HashSet<>();
+        for (Name candidate : smallest) {
+            if (containsAllTrigrams(candidate, queryTrigrams) && toKey(candidate).contains(lowerCaseQuery)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of indexed names containing {@code lowerCaseQuery}, ignoring case,
+     * without verifying any name: the number of names containing its rarest trigram.
+     * {@code lowerCaseQuery} must be in lower case and have at least {@link #GRAM_SIZE} characters.
+     */
+    public int estimateNamesContaining(String lowerCaseQuery) {
+        assert lowerCaseQuery.length() >= GRAM_SIZE;
+
+        int smallestSize = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM_SIZE <= lowerCaseQuery.length(); i++) {
+            Set<Name> names = namesByTrigram.get(lowerCaseQuery.substring(i, i + GRAM_SIZE));
+            if (names == null) {
+                return 0;
+            }
+            smallestSize = Math.min(smallestSize, names.size());
+        }
+        return smallestSize;
+    }
+
+    private boolean containsAllTrigrams(Name candidate, Set<String> trigrams) {
+        for (String trigram : trigrams) {
+            if (!namesByTrigram.get(trigram).contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase();
+    }
+
+    private static Set<String> trigramsOf(String key) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= key.length(); i++) {
+            trigrams.add(key.substring(i, i + GRAM_SIZE));
+        }
+        return trigrams;
+    }
+}
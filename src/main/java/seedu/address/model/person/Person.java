@@ -1,12 +1,15 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -17,10 +20,21 @@ import seedu.address.model.tag.Tag;
  * Represents a Person in the address book.
  * Guarantees: name is present and not null, field values are validated, immutable.
  * Phone and Email are optional and can be null.
+ * Bookings are kept ordered by their datetime, and no two bookings of a person may share the same datetime.
+ * Each booking also has an ID that is unique among the person's bookings; bookings without one are given the next
+ * free ID when they are added.
+ * Copies made by {@link #withBooking(Booking)} and {@link #withoutBooking(Booking)} share the tag set and all
+ * unchanged bookings with the original person.
+ * A person read from storage may hold its bookings in a {@link BookingSource}, to be decoded when they are first
+ * needed; the bookings before its archive horizon are decoded only when bookings that old are needed.
+ * The hash code and the lower case forms of the name and tags are computed once, when the person is created. The
+ * hash code leaves out the bookings, so that it can be computed without decoding them.
  */
 public class Person {
 
     public static final int MAX_TAGS = 20;
+    public static final String MESSAGE_DUPLICATE_BOOKING = "%1$s has more than one booking at %2$s.";
+    public static final String MESSAGE_DUPLICATE_BOOKING_ID = "%1$s has more than one booking with ID %2$d.";
 
     // Identity fields
     private final Name name;
@@ -28,8 +42,13 @@ public class Person {
     private final Email email; // Can be null
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
-    private final List<Booking> bookings = new ArrayList<>();
+    private final Set<Tag> tags;
+    private final PersonBookings bookings;
+
+    // Derived fields
+    private final String lowerCaseName;
+    private final List<String> lowerCaseTagNames;
+    private final int hashCode;
 
     /**
      * Name must be present. Phone and Email are optional (can be null).
@@ -43,17 +62,48 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Set<Tag> tags, List<Booking> bookings) {
         requireAllNonNull(name, tags);
-        if (tags.size() > MAX_TAGS) {
-            throw new IllegalArgumentException("Tag limit reached for " + name
-                    + ". Maximum 20 tags allowed. Remove existing tags before adding new ones.");
-        }
         this.name = name;
         this.phone = phone; // Can be null
         this.email = email; // Can be null
-        this.tags.addAll(tags);
-        if (bookings != null) {
-            this.bookings.addAll(bookings);
-        }
+        this.tags = copyTags(name, tags);
+        this.bookings = PersonBookings.of(name, bookings != null ? bookings : List.of());
+        this.lowerCaseName = name.fullName.toLowerCase();
+        this.lowerCaseTagNames = toLowerCaseTagNames(this.tags);
+        this.hashCode = Objects.hash(name, phone, email, this.tags);
+    }
+
+    /**
+     * Constructor with bookings to be decoded from {@code bookings} when they are first needed. The bookings before
+     * {@code archiveHorizon} are decoded only when bookings before it are needed. Phone and Email are optional (can
+     * be null).
+     */
+    public Person(Name name, Phone phone, Email email, Set<Tag> tags, BookingSource bookings,
+            LocalDateTime archiveHorizon) {
+        requireAllNonNull(name, tags, bookings, archiveHorizon);
+        this.name = name;
+        this.phone = phone; // Can be null
+        this.email = email; // Can be null
+        this.tags = copyTags(name, tags);
+        this.bookings = PersonBookings.lazy(name, bookings, archiveHorizon);
+        this.lowerCaseName = name.fullName.toLowerCase();
+        this.lowerCaseTagNames = toLowerCaseTagNames(this.tags);
+        this.hashCode = Objects.hash(name, phone, email, this.tags);
+    }
+
+    /**
+     * Creates a person that shares {@code tags}, {@code lowerCaseTagNames} and {@code bookings} instead of copying
+     * them. {@code tags} must be unmodifiable and {@code lowerCaseTagNames} must be derived from {@code tags}.
+     */
+    private Person(Name name, Phone phone, Email email, Set<Tag> tags, List<String> lowerCaseTagNames,
+            PersonBookings bookings) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.tags = tags;
+        this.bookings = bookings;
+        this.lowerCaseName = name.fullName.toLowerCase();
+        this.lowerCaseTagNames = lowerCaseTagNames;
+        this.hashCode = Objects.hash(name, phone, email, tags);
     }
 
     public Name getName() {
@@ -73,15 +123,188 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns the full name of this person in lower case.
+     */
+    public String getLowerCaseName() {
+        return lowerCaseName;
     }
 
     /**
-     * Returns an immutable booking list, which throws {@code UnsupportedOperationException}
+     * Returns the names of this person's tags in lower case, as an immutable list.
+     */
+    public List<String> getLowerCaseTagNames() {
+        return lowerCaseTagNames;
+    }
+
+    /**
+     * Returns an immutable booking list ordered by datetime, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public List<Booking> getBookings() {
-        return Collections.unmodifiableList(bookings);
+        return Collections.unmodifiableList(bookings.all().byDateTime.values());
+    }
+
+    /**
+     * Returns the source the bookings of this person were read from if they are unchanged since and some of them are
+     * still undecoded, or null otherwise. Storage can write such a source out as it is, without decoding it.
+     */
+    public BookingSource getUndecodedBookings() {
+        return bookings.getUndecodedSource();
+    }
+
+    /**
+     * Returns true if this person has any bookings, without decoding them.
+     */
+    public boolean hasBookings() {
+        return bookings.size() > 0;
+    }
+
+    /**
+     * Returns the time before which the bookings of this person are decoded only when bookings that old are needed,
+     * or {@code LocalDateTime.MIN} if there is no such time.
+     */
+    public LocalDateTime getArchiveHorizon() {
+        return bookings.getArchiveHorizon();
+    }
+
+    /**
+     * Returns the booking of this person at exactly {@code datetime}, if any.
+     */
+    public Optional<Booking> getBookingAt(LocalDateTime datetime) {
+        requireNonNull(datetime);
+        return Optional.ofNullable(bookings.from(datetime).byDateTime.get(datetime));
+    }
+
+    /**
+     * Returns the bookings of this person from {@code start} (inclusive) to {@code end} (exclusive),
+     * ordered by datetime.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return Collections.unmodifiableList(bookings.from(start).byDateTime.valuesBetween(start, end));
+    }
+
+    /**
+     * Returns true if this person has a booking in the half-open range [{@code start}, {@code end}).
+     */
+    public boolean hasBookingBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return bookings.from(start).byDateTime.containsKeyBetween(start, end);
+    }
+
+    /**
+     * Returns the booking of this person with the ID {@code id}, if any.
+     */
+    public Optional<Booking> getBookingById(int id) {
+        Booking booking = bookings.from(getArchiveHorizon()).byId.get(id);
+        return Optional.ofNullable(booking != null ? booking : bookings.all().byId.get(id));
+    }
+
+    /**
+     * Returns the bookings of this person in the order they are shown to the user: the bookings after {@code now}
+     * first and the rest after them, each in chronological order.
+     */
+    public DisplayedBookings getDisplayedBookings(LocalDateTime now) {
+        requireNonNull(now);
+        return new DisplayedBookings(bookings.all().byDateTime, now);
+    }
+
+    /**
+     * Returns the booking shown at position {@code displayIndex} (1-based) in {@link #getDisplayedBookings}.
+     */
+    public Optional<Booking> getBookingAtDisplayIndex(int displayIndex, LocalDateTime now) {
+        requireNonNull(now);
+        int index = displayIndex - 1;
+        if (index < 0 || index >= bookings.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(getDisplayedBookings(now).get(index));
+    }
+
+    /**
+     * Returns a copy of this person with {@code booking} added.
+     * A booking without an ID is given the next free ID of this person.
+     * This person must not already have a booking that conflicts with {@code booking}, or one with its ID.
+     */
+    public Person withBooking(Booking booking) {
+        requireNonNull(booking);
+        PersonBookings.Decoded allBookings = bookings.all();
+        if (allBookings.byDateTime.get(booking.getDateTime()) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_BOOKING,
+                    name, booking.getDateTimeString()));
+        }
+        if (booking.hasId() && allBookings.byId.get(booking.getId()) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_BOOKING_ID, name, booking.getId()));
+        }
+        Booking addedBooking = booking.hasId() ? booking : booking.withId(PersonBookings.nextFreeId(
+                allBookings.byId.lastKey(), id -> allBookings.byId.get(id) != null));
+        return new Person(name, phone, email, tags, lowerCaseTagNames, PersonBookings.of(name,
+                allBookings.byDateTime.put(addedBooking.getDateTime(), addedBooking),
+                allBookings.byId.put(addedBooking.getId(), addedBooking)));
+    }
+
+    /**
+     * Returns a copy of this person with {@code booking} removed.
+     * This person must have a booking equal to {@code booking}.
+     */
+    public Person withoutBooking(Booking booking) {
+        requireNonNull(booking);
+        Booking storedBooking = bookings.all().byDateTime.get(booking.getDateTime());
+        if (!booking.equals(storedBooking)) {
+            throw new IllegalArgumentException("No such booking for " + name + ": " + booking);
+        }
+        return withoutBooking(storedBooking.getId());
+    }
+
+    /**
+     * Returns a copy of this person with the booking with ID {@code id} removed.
+     * This person must have a booking with that ID.
+     */
+    public Person withoutBooking(int id) {
+        PersonBookings.Decoded allBookings = bookings.all();
+        Booking storedBooking = allBookings.byId.get(id);
+        if (storedBooking == null) {
+            throw new IllegalArgumentException("No booking with ID " + id + " for " + name);
+        }
+        return new Person(name, phone, email, tags, lowerCaseTagNames, PersonBookings.of(name,
+                allBookings.byDateTime.remove(storedBooking.getDateTime()), allBookings.byId.remove(id)));
+    }
+
+    /**
+     * Returns a copy of this person with the given details and the same bookings, which are not decoded.
+     * Phone and Email are optional (can be null).
+     */
+    public Person withDetails(Name name, Phone phone, Email email, Set<Tag> tags) {
+        requireAllNonNull(name, tags);
+        if (tags == this.tags) {
+            return new Person(name, phone, email, this.tags, lowerCaseTagNames, bookings.withName(name));
+        }
+        Set<Tag> updatedTags = copyTags(name, tags);
+        return new Person(name, phone, email, updatedTags, toLowerCaseTagNames(updatedTags),
+                bookings.withName(name));
+    }
+
+    /**
+     * Returns a copy of this person with {@code tags} replacing their tags.
+     */
+    public Person withTags(Set<Tag> tags) {
+        return withDetails(name, phone, email, tags);
+    }
+
+    private static Set<Tag> copyTags(Name name, Set<Tag> tags) {
+        if (tags.size() > MAX_TAGS) {
+            throw new IllegalArgumentException("Tag limit reached for " + name
+                    + ". Maximum 20 tags allowed. Remove existing tags before adding new ones.");
+        }
+        return Collections.unmodifiableSet(new HashSet<>(tags));
+    }
+
+    private static List<String> toLowerCaseTagNames(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName.toLowerCase()).toList();
     }
 
     /**
@@ -113,17 +336,17 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && Objects.equals(phone, otherPerson.phone)
                 && Objects.equals(email, otherPerson.email)
                 && tags.equals(otherPerson.tags)
-                && bookings.equals(otherPerson.bookings);
+                && bookings.hasSameBookings(otherPerson.bookings);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, tags, bookings);
+        return hashCode;
     }
 
     @Override
@@ -133,7 +356,7 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("tags", tags)
-                .add("bookings", bookings)
+                .add("bookings", bookings.all().byDateTime.values())
                 .toString();
     }
 
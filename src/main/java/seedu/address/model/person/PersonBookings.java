@@ -0,0 +1,205 @@
+package seedu.address.model.person;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.exceptions.InvalidBookingDataException;
+
+/**
+ * The bookings of a person, keyed by datetime and by ID.
+ * The bookings are either given up front or decoded from a {@link BookingSource} when they are first needed. The
+ * bookings of a source before its archive horizon are decoded only when a caller needs bookings that old; until then,
+ * only the later bookings are decoded.
+ * Decoding is safe from several threads; a thread that finds the bookings it needs not decoded yet decodes them.
+ * The bookings before the archive horizon may be checked only when they are decoded, so decoding them may fail with an
+ * {@link InvalidBookingDataException}.
+ */
+final class PersonBookings {
+
+    static final String MESSAGE_INVALID_BOOKINGS = "The bookings of %1$s in the data file are invalid: %2$s";
+
+    private final Name name;
+    private final BookingSource source; // null if the bookings were given up front
+    private final LocalDateTime archiveHorizon; // null if no bookings are held back
+    private volatile Decoded decoded;
+
+    private PersonBookings(Name name, BookingSource source, LocalDateTime archiveHorizon, Decoded decoded) {
+        this.name = name;
+        this.source = source;
+        this.archiveHorizon = archiveHorizon;
+        this.decoded = decoded;
+    }
+
+    /**
+     * Returns the bookings of {@code name} in {@code bookings}, giving the bookings without an ID the next free IDs.
+     * Of the bookings sharing an ID, only the latest keeps it; the others are given the next free IDs too.
+     *
+     * @throws IllegalArgumentException if two bookings share a datetime.
+     */
+    static PersonBookings of(Name name, List<Booking> bookings) {
+        return new PersonBookings(name, null, null, decode(name, bookings, null));
+    }
+
+    /**
+     * Returns the bookings in the given maps, which must hold the same bookings, keyed by datetime and by ID.
+     */
+    static PersonBookings of(Name name, PersistentSortedMap<LocalDateTime, Booking> byDateTime,
+            PersistentSortedMap<Integer, Booking> byId) {
+        return new PersonBookings(name, null, null, new Decoded(byDateTime, byId, null));
+    }
+
+    /**
+     * Returns the bookings of {@code name} in {@code source}, to be decoded when first needed. The bookings before
+     * {@code archiveHorizon} are decoded only when a caller needs bookings before it.
+     */
+    static PersonBookings lazy(Name name, BookingSource source, LocalDateTime archiveHorizon) {
+        return new PersonBookings(name, source,
+                archiveHorizon.equals(LocalDateTime.MIN) ? null : archiveHorizon, null);
+    }
+
+    /**
+     * Returns these bookings as the bookings of {@code name}, sharing whatever has been decoded so far.
+     */
+    PersonBookings withName(Name name) {
+        return this.name.equals(name) ? this : new PersonBookings(name, source, archiveHorizon, decoded);
+    }
+
+    LocalDateTime getArchiveHorizon() {
+        return archiveHorizon == null ? LocalDateTime.MIN : archiveHorizon;
+    }
+
+    /**
+     * Returns the source of these bookings if some of them are still undecoded, or null otherwise. These bookings
+     * are never changed in place, so the source holds exactly these bookings.
+     */
+    BookingSource getUndecodedSource() {
+        Decoded current = decoded;
+        return current != null && current.from == null ? null : source;
+    }
+
+    int size() {
+        Decoded current = decoded;
+        return current != null && current.from == null ? current.byDateTime.size() : source.size();
+    }
+
+    /**
+     * Returns all the bookings, decoding them if needed.
+     */
+    Decoded all() {
+        return from(null);
+    }
+
+    /**
+     * Returns the decoded bookings, which include at least every booking at or after {@code start}, or every booking
+     * if {@code start} is null.
+     */
+    Decoded from(LocalDateTime start) {
+        Decoded current = decoded;
+        if (current != null && (current.from == null || start != null && !start.isBefore(current.from))) {
+            return current;
+        }
+        boolean isAfterHorizon = start != null && archiveHorizon != null && !start.isBefore(archiveHorizon);
+        try {
+            current = decode(name, source.decode(isAfterHorizon ? archiveHorizon : null),
+                    isAfterHorizon ? archiveHorizon : null);
+            if (current == null) {
+                // bookings without an ID can only be given IDs once all bookings are known
+                current = decode(name, source.decode(null), null);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBookingDataException(String.format(MESSAGE_INVALID_BOOKINGS, name, e.getMessage()), e);
+        }
+        decoded = current;
+        return current;
+    }
+
+    /**
+     * Returns true if both hold the same bookings. Bookings sharing a source are the same without being decoded.
+     */
+    boolean hasSameBookings(PersonBookings other) {
+        return other == this || source != null && source == other.source
+                || all().byDateTime.equals(other.all().byDateTime);
+    }
+
+    /**
+     * Returns {@code bookings}, which are the bookings at or after {@code from} or all the bookings if {@code from}
+     * is null, keyed by datetime and by ID. Returns null if only some bookings are given and one has no ID or shares
+     * its ID with another.
+     */
+    private static Decoded decode(Name name, List<Booking> bookings, LocalDateTime from) {
+        TreeMap<Integer, Booking> bookingsById = new TreeMap<>();
+        List<Booking> bookingsWithoutId = new ArrayList<>();
+        for (Booking booking : bookings) {
+            Booking sharingBooking = booking.hasId() ? bookingsById.putIfAbsent(booking.getId(), booking) : null;
+            if (booking.hasId() && sharingBooking == null) {
+                continue;
+            }
+            if (from != null) {
+                return null;
+            }
+            if (sharingBooking == null) {
+                bookingsWithoutId.add(booking);
+            } else if (booking.getDateTime().isAfter(sharingBooking.getDateTime())) {
+                // Older files may repeat an ID. The latest booking keeps it, as the bookings after the archive
+                // horizon may have been decoded with it already, and the others are given new IDs.
+                bookingsById.put(booking.getId(), booking);
+                bookingsWithoutId.add(sharingBooking);
+            } else {
+                bookingsWithoutId.add(booking);
+            }
+        }
+        for (Booking booking : bookingsWithoutId) {
+            int id = nextFreeId(bookingsById.isEmpty() ? null : bookingsById.lastKey(), bookingsById::containsKey);
+            bookingsById.put(id, booking.withId(id));
+        }
+
+        TreeMap<LocalDateTime, Booking> bookingsByDateTime = new TreeMap<>();
+        for (Booking booking : bookingsById.values()) {
+            if (bookingsByDateTime.putIfAbsent(booking.getDateTime(), booking) != null) {
+                throw new IllegalArgumentException(String.format(Person.MESSAGE_DUPLICATE_BOOKING,
+                        name, booking.getDateTimeString()));
+            }
+        }
+        return new Decoded(PersistentSortedMap.copyOf(bookingsByDateTime), PersistentSortedMap.copyOf(bookingsById),
+                from);
+    }
+
+    /**
+     * Returns the ID to give a new booking: the one after {@code lastId}, the largest ID in use, or 1 if no ID is
+     * in use. If {@code lastId} is the largest possible ID, returns the lowest ID that {@code isIdUsed} rejects.
+     */
+    static int nextFreeId(Integer lastId, IntPredicate isIdUsed) {
+        if (lastId == null) {
+            return 1;
+        }
+        if (lastId < Integer.MAX_VALUE) {
+            return lastId + 1;
+        }
+        int id = 1;
+        while (isIdUsed.test(id)) {
+            id++;
+        }
+        return id;
+    }
+
+    /**
+     * Decoded bookings, keyed by datetime and by ID.
+     */
+    static final class Decoded {
+        final PersistentSortedMap<LocalDateTime, Booking> byDateTime;
+        final PersistentSortedMap<Integer, Booking> byId;
+        final LocalDateTime from; // the bookings at or after this are decoded, or all if null
+
+        private Decoded(PersistentSortedMap<LocalDateTime, Booking> byDateTime,
+                PersistentSortedMap<Integer, Booking> byId, LocalDateTime from) {
+            this.byDateTime = byDateTime;
+            this.byId = byId;
+            this.from = from;
+        }
+    }
+}
@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +24,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A hash index from each person's {@code Name} to their position in the list is maintained alongside the list,
+ * so identity lookups run in constant time instead of scanning every person. A trigram index over the names answers
+ * substring searches on names.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +35,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positionByName = new HashMap<>();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,6 +55,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positionByName.put(toAdd.getName(), internalList.size());
+        nameTrigramIndex.add(toAdd.getName());
         internalList.add(toAdd);
     }
 
@@ -52,11 +64,13 @@ public class UniquePersonList implements Iterable<Person> {
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person that was in the list, which may be another instance equal to {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,22 +79,43 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        positionByName.remove(target.getName());
+        positionByName.put(editedPerson.getName(), index);
+        nameTrigramIndex.remove(target.getName());
+        nameTrigramIndex.add(editedPerson.getName());
+        return internalList.set(index, editedPerson);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person that was in the list, which may be another instance equal to {@code toRemove}.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positionByName.remove(toRemove.getName());
+        nameTrigramIndex.remove(toRemove.getName());
+        Person removedPerson = internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionByName.put(internalList.get(i).getName(), i);
+        }
+        return removedPerson;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positionByName.clear();
+        positionByName.putAll(replacement.positionByName);
+        indexNames(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +125,59 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Integer> replacementPositions = indexByName(persons);
+        if (replacementPositions == null) {
             throw new DuplicatePersonException();
         }
 
+        positionByName.clear();
+        positionByName.putAll(replacementPositions);
+        indexNames(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the person named exactly {@code name}, if any.
+     */
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        Integer index = positionByName.get(name);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the persons whose name contains {@code keyword}, ignoring case, in list order.
+     */
+    public List<Person> getPersonsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (lowerCaseKeyword.length() < NameTrigramIndex.GRAM_SIZE) {
+            return internalList.stream()
+                    .filter(person -> person.getName().fullName.toLowerCase().contains(lowerCaseKeyword))
+                    .toList();
+        }
+
+        Set<Name> names = nameTrigramIndex.getNamesContaining(lowerCaseKeyword);
+        return names.stream()
+                .mapToInt(positionByName::get)
+                .sorted()
+                .mapToObj(internalList::get)
+                .toList();
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code keyword}, ignoring case, from the
+     * name index alone. Keywords too short to be indexed are bounded by the size of the list.
+     */
+    public int estimatePersonsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (lowerCaseKeyword.length() < NameTrigramIndex.GRAM_SIZE) {
+            return internalList.size();
+        }
+        return nameTrigramIndex.estimateNamesContaining(lowerCaseKeyword);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,16 +216,32 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = positionByName.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private void indexNames(List<Person> persons) {
+        nameTrigramIndex.clear();
+        persons.forEach(person -> nameTrigramIndex.add(person.getName()));
+    }
+
+    /**
+     * Returns the position of every person in {@code persons} keyed by name,
+     * or null if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> positions = new HashMap<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.put(persons.get(i).getName(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
     }
 }
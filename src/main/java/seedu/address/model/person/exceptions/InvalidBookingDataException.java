@@ -0,0 +1,11 @@
+package seedu.address.model.person.exceptions;
+
+/**
+ * Signals that the bookings of a person, decoded only when they were first needed, turned out to be invalid in the
+ * data file they were loaded from.
+ */
+public class InvalidBookingDataException extends RuntimeException {
+    public InvalidBookingDataException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
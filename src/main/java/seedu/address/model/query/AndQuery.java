@@ -0,0 +1,98 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches all of the given queries.
+ */
+public class AndQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query of the persons matching all of {@code operands}, of which there must be at least two.
+     */
+    public AndQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "AND needs at least two operands.");
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public AndQuery normalize() {
+        return new AndQuery(operands.stream().map(Query::normalize).toList());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < operands.size(); i++) {
+            if (!operands.get(i).test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Plans the lookup from the indexed operand with the fewest estimated candidates, as every match must be one of
+     * them. The other operands are left to testing the candidates.
+     */
+    @Override
+    QueryPlan plan(QueryPlanner planner) {
+        List<QueryPlan> operandPlans = new ArrayList<>();
+        QueryPlan mostSelective = null;
+        for (Query operand : operands) {
+            QueryPlan operandPlan = operand.plan(planner);
+            operandPlans.add(operandPlan);
+            if (operandPlan.isIndexed()
+                    && (mostSelective == null || operandPlan.getEstimate() < mostSelective.getEstimate())) {
+                mostSelective = operandPlan;
+            }
+        }
+
+        if (mostSelective == null) {
+            return QueryPlan.scan(this, "AND", planner.getPersonCount(), operandPlans);
+        }
+        return QueryPlan.indexed(this, "AND", "narrowed by " + mostSelective.getLabel(), mostSelective.getEstimate(),
+                operandPlans, mostSelective::lookUpCandidates);
+    }
+
+    @Override
+    String toString(int enclosingPrecedence) {
+        String joined = operands.stream()
+                .map(operand -> operand.toString(PRECEDENCE_AND))
+                .collect(Collectors.joining(" AND "));
+        return enclosingPrecedence > PRECEDENCE_AND ? "(" + joined + ")" : joined;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherQuery = (AndQuery) other;
+        return operands.equals(otherQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.ClientContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a field of a {@code Person} contains a value, ignoring case.
+ * An empty value matches every person with any value in the field. A date value is either a single
+ * {@code YYYY-MM-DD} date or an inclusive range {@code YYYY-MM-DD..YYYY-MM-DD}, matching persons with a booking on it.
+ */
+public class FieldQuery extends Query {
+
+    public static final String MESSAGE_INVALID_DATE = "A date must be YYYY-MM-DD or YYYY-MM-DD..YYYY-MM-DD";
+
+    /**
+     * The fields a query can search, with the prefixes they are written with.
+     */
+    public enum Field {
+        NAME("n/"), TAG("t/"), DATE("d/"), PHONE("p/"), EMAIL("e/"), CLIENT("c/");
+
+        private final String prefix;
+
+        Field(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+    }
+
+    private final Field field;
+    private final String value;
+    private final String lowerCaseValue;
+    private final LocalDateTime dateRangeStart; // inclusive, null unless a date is searched
+    private final LocalDateTime dateRangeEnd; // exclusive, null unless a date is searched
+
+    /**
+     * Creates a query of the persons whose {@code field} contains {@code value}.
+     *
+     * @throws IllegalArgumentException if {@code field} is {@code DATE} and {@code value} is neither empty, a date
+     *     nor a date range.
+     */
+    public FieldQuery(Field field, String value) {
+        requireAllNonNull(field, value);
+        this.field = field;
+        this.value = value.trim();
+        this.lowerCaseValue = this.value.toLowerCase();
+
+        if (field != Field.DATE || this.value.isEmpty()) {
+            dateRangeStart = null;
+            dateRangeEnd = null;
+            return;
+        }
+        LocalDate[] range = ClientContainsKeywordsPredicate.parseDateRange(this.value);
+        checkArgument(range != null, MESSAGE_INVALID_DATE);
+        dateRangeStart = range[0].atStartOfDay();
+        dateRangeEnd = range[1].plusDays(1).atStartOfDay();
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public FieldQuery normalize() {
+        return value.equals(lowerCaseValue) ? this : new FieldQuery(field, lowerCaseValue);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (field) {
+        case NAME:
+            return person.getLowerCaseName().contains(lowerCaseValue);
+        case TAG:
+            return matchesTag(person);
+        case DATE:
+            return dateRangeStart == null
+                    ? person.hasBookings()
+                    : person.hasBookingBetween(dateRangeStart, dateRangeEnd);
+        case PHONE:
+            return person.getPhone() != null && containsIgnoreCase(person.getPhone().value, lowerCaseValue);
+        case EMAIL:
+            return person.getEmail() != null && containsIgnoreCase(person.getEmail().value, lowerCaseValue);
+        case CLIENT:
+            return matchesClient(person);
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    private boolean matchesTag(Person person) {
+        List<String> tagNames = person.getLowerCaseTagNames();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (tagNames.get(i).contains(lowerCaseValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesClient(Person person) {
+        if (!person.hasBookings()) {
+            return false;
+        }
+        for (Booking booking : person.getBookings()) {
+            if (containsIgnoreCase(booking.getClientName(), lowerCaseValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code lowerCaseKeyword}, ignoring case, without copying {@code text}.
+     */
+    private static boolean containsIgnoreCase(String text, String lowerCaseKeyword) {
+        for (int i = 0; i + lowerCaseKeyword.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, lowerCaseKeyword, 0, lowerCaseKeyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Plans the name, tag and date fields with the index of the field, estimating the candidates from the size of
+     * its entries. Any value of a field matches nearly every person, and phones, emails and clients are not
+     * indexed, so those are scanned.
+     */
+    @Override
+    QueryPlan plan(QueryPlanner planner) {
+        Model model = planner.getModel();
+        int personCount = planner.getPersonCount();
+        String label = toString();
+        if (value.isEmpty()) {
+            return QueryPlan.scan(this, label, personCount, List.of());
+        }
+
+        switch (field) {
+        case NAME:
+            return QueryPlan.indexed(this, label, "name index",
+                    Math.min(model.estimatePersonsWithNameContaining(value), personCount), List.of(), () -> {
+                        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+                        persons.addAll(model.getPersonsWithNameContaining(value));
+                        return persons;
+                    });
+        case TAG:
+            long taggedCount = 0;
+            for (Map.Entry<String, Integer> tagCount : model.getTagCounts().entrySet()) {
+                if (tagCount.getKey().contains(lowerCaseValue)) {
+                    taggedCount += tagCount.getValue();
+                }
+            }
+            return QueryPlan.indexed(this, label, "tag index", (int) Math.min(taggedCount, personCount),
+                    List.of(), () -> model.getPersonsWithTagContaining(value));
+        case DATE:
+            return QueryPlan.indexed(this, label, "time index",
+                    Math.min(model.countBookingsBetween(dateRangeStart, dateRangeEnd), personCount),
+                    List.of(), () -> model.getPersonsWithBookingsBetween(dateRangeStart, dateRangeEnd));
+        default:
+            return QueryPlan.scan(this, label, personCount, List.of());
+        }
+    }
+
+    @Override
+    String toString(int enclosingPrecedence) {
+        return field.getPrefix() + value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery)) {
+            return false;
+        }
+
+        FieldQuery otherQuery = (FieldQuery) other;
+        return field == otherQuery.field && value.equals(otherQuery.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not match the given query.
+ */
+public class NotQuery extends Query {
+
+    private final Query operand;
+
+    /**
+     * Creates a query of the persons not matching {@code operand}.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public NotQuery normalize() {
+        return new NotQuery(operand.normalize());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    /**
+     * Plans a scan, as the indexes only look up the persons that match a term, not those that do not.
+     */
+    @Override
+    QueryPlan plan(QueryPlanner planner) {
+        return QueryPlan.scan(this, "NOT", planner.getPersonCount(), List.of(operand.plan(planner)));
+    }
+
+    @Override
+    String toString(int enclosingPrecedence) {
+        return "NOT " + operand.toString(PRECEDENCE_NOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherQuery = (NotQuery) other;
+        return operand.equals(otherQuery.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash("NOT", operand);
+    }
+}
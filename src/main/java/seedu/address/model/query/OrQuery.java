@@ -0,0 +1,104 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} matches any of the given queries.
+ */
+public class OrQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query of the persons matching any of {@code operands}, of which there must be at least two.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "OR needs at least two operands.");
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public OrQuery normalize() {
+        return new OrQuery(operands.stream().map(Query::normalize).toList());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < operands.size(); i++) {
+            if (operands.get(i).test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Plans the lookup as the union of the candidates of every operand, which needs every operand to be indexed:
+     * the matches of an operand that is not could be any of the persons.
+     */
+    @Override
+    QueryPlan plan(QueryPlanner planner) {
+        List<QueryPlan> operandPlans = new ArrayList<>();
+        boolean isAllIndexed = true;
+        long estimate = 0;
+        for (Query operand : operands) {
+            QueryPlan operandPlan = operand.plan(planner);
+            operandPlans.add(operandPlan);
+            isAllIndexed &= operandPlan.isIndexed();
+            estimate += operandPlan.getEstimate();
+        }
+
+        if (!isAllIndexed) {
+            return QueryPlan.scan(this, "OR", planner.getPersonCount(), operandPlans);
+        }
+        return QueryPlan.indexed(this, "OR", "union", (int) Math.min(estimate, planner.getPersonCount()),
+                operandPlans, () -> {
+                    Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+                    operandPlans.forEach(operandPlan -> candidates.addAll(operandPlan.lookUpCandidates()));
+                    return candidates;
+                });
+    }
+
+    @Override
+    String toString(int enclosingPrecedence) {
+        String joined = operands.stream()
+                .map(operand -> operand.toString(PRECEDENCE_OR))
+                .collect(Collectors.joining(" OR "));
+        return enclosingPrecedence > PRECEDENCE_OR ? "(" + joined + ")" : joined;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherQuery = (OrQuery) other;
+        return operands.equals(otherQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A search query over persons, built from field terms combined with AND, OR and NOT.
+ * Besides testing a person, a query can be planned by a {@code QueryPlanner}, which estimates how many persons each
+ * part of it could match from the indexes of the address book and decides whether to look the matches up from the
+ * indexes or to test every person.
+ */
+public abstract class Query implements Predicate<Person> {
+
+    // How tightly each operator binds its operands, from loosest to tightest
+    static final int PRECEDENCE_OR = 1;
+    static final int PRECEDENCE_AND = 2;
+    static final int PRECEDENCE_NOT = 3;
+
+    @Override
+    public abstract boolean test(Person person);
+
+    /**
+     * Returns an equivalent query with its values in lower case, as they are matched ignoring case, so that queries
+     * matching the same persons for that reason are equal.
+     */
+    public abstract Query normalize();
+
+    /**
+     * Returns the plan of looking up the persons matching this query with {@code planner}.
+     */
+    abstract QueryPlan plan(QueryPlanner planner);
+
+    /**
+     * Returns this query as it would be written by the user, within an operator of {@code enclosingPrecedence}.
+     * Operators binding more loosely than the enclosing one are parenthesized.
+     */
+    abstract String toString(int enclosingPrecedence);
+
+    @Override
+    public String toString() {
+        return toString(0);
+    }
+}
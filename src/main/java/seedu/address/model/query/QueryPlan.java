@@ -0,0 +1,99 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The plan of looking up the persons matching a {@code Query}, with a plan for each of its operands.
+ * A plan either looks up candidates from the indexes of the address book, estimating how many it will find, or cannot
+ * narrow the search and has every person as a candidate. The candidates of a plan may include persons that do not
+ * match its query, so they must still be tested against it.
+ * Guarantees: immutable.
+ */
+public final class QueryPlan {
+
+    public static final String ACCESS_SCAN = "scan";
+
+    private final Query query;
+    private final String label;
+    private final String access;
+    private final int estimate;
+    private final List<QueryPlan> operandPlans;
+    private final Supplier<Set<Person>> candidates; // null if the plan cannot narrow the search
+
+    private QueryPlan(Query query, String label, String access, int estimate, List<QueryPlan> operandPlans,
+            Supplier<Set<Person>> candidates) {
+        this.query = query;
+        this.label = label;
+        this.access = access;
+        this.estimate = estimate;
+        this.operandPlans = List.copyOf(operandPlans);
+        this.candidates = candidates;
+    }
+
+    /**
+     * Returns a plan of looking up at most about {@code estimate} candidates for {@code query} with
+     * {@code candidates}, described by {@code access}.
+     */
+    static QueryPlan indexed(Query query, String label, String access, int estimate, List<QueryPlan> operandPlans,
+            Supplier<Set<Person>> candidates) {
+        requireNonNull(candidates);
+        return new QueryPlan(query, label, access, estimate, operandPlans, candidates);
+    }
+
+    /**
+     * Returns a plan that has all {@code personCount} persons as candidates for {@code query}.
+     */
+    static QueryPlan scan(Query query, String label, int personCount, List<QueryPlan> operandPlans) {
+        return new QueryPlan(query, label, ACCESS_SCAN, personCount, operandPlans, null);
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the operator or term of the query, e.g. {@code AND} or {@code t/vip}.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns how candidates are found, e.g. {@code tag index} or {@code scan}.
+     */
+    public String getAccess() {
+        return access;
+    }
+
+    /**
+     * Returns the estimated number of candidates, which is at least the number of matching persons.
+     */
+    public int getEstimate() {
+        return estimate;
+    }
+
+    public List<QueryPlan> getOperandPlans() {
+        return operandPlans;
+    }
+
+    /**
+     * Returns true if candidates can be looked up from the indexes instead of testing every person.
+     */
+    public boolean isIndexed() {
+        return candidates != null;
+    }
+
+    /**
+     * Looks up the candidates from the indexes. The returned set compares persons by reference.
+     */
+    Set<Person> lookUpCandidates() {
+        assert isIndexed();
+        return candidates.get();
+    }
+}
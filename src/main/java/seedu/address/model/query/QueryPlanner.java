@@ -0,0 +1,105 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Plans and runs queries over the persons of a model, choosing between looking up candidates from the name, tag and
+ * booking time indexes and scanning every person.
+ * A lookup is chosen when it is estimated to leave fewer than half of the persons as candidates: beyond that,
+ * collecting the candidates costs more than testing every person does.
+ */
+public class QueryPlanner {
+
+    private final Model model;
+    private final int personCount;
+
+    /**
+     * Creates a planner of queries over the persons in the address book of {@code model}.
+     */
+    public QueryPlanner(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        this.personCount = model.getAddressBook().getPersonList().size();
+    }
+
+    Model getModel() {
+        return model;
+    }
+
+    /**
+     * Returns the number of persons in the address book, which every scan visits.
+     */
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the plan of looking up the persons matching {@code query}.
+     */
+    public QueryPlan plan(Query query) {
+        requireNonNull(query);
+        return query.plan(this);
+    }
+
+    /**
+     * Returns true if the candidates of {@code plan} should be looked up from the indexes rather than testing every
+     * person.
+     */
+    public boolean isLookupChosen(QueryPlan plan) {
+        requireNonNull(plan);
+        return plan.isIndexed() && (long) plan.getEstimate() * 2 < personCount;
+    }
+
+    /**
+     * Returns the persons matching the query of {@code plan}, testing either the candidates looked up from the
+     * indexes or every person, as chosen. The returned set compares persons by reference.
+     */
+    public Set<Person> findMatches(QueryPlan plan) {
+        requireNonNull(plan);
+        Query query = plan.getQuery();
+        Collection<Person> candidates = isLookupChosen(plan)
+                ? plan.lookUpCandidates()
+                : model.getAddressBook().getPersonList();
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : candidates) {
+            if (query.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a description of {@code plan} for the user: the chosen way of finding the matches, followed by the
+     * plan of each operand with its estimated candidates, indented by depth.
+     */
+    public String explain(QueryPlan plan) {
+        requireNonNull(plan);
+        StringBuilder sb = new StringBuilder();
+        if (isLookupChosen(plan)) {
+            sb.append(String.format("Plan: index lookup of about %d of %d persons", plan.getEstimate(), personCount));
+        } else {
+            sb.append(String.format("Plan: scan of all %d persons", personCount));
+        }
+        appendPlan(sb, plan, 1);
+        return sb.toString();
+    }
+
+    private static void appendPlan(StringBuilder sb, QueryPlan plan, int depth) {
+        sb.append('\n').append("  ".repeat(depth))
+                .append(plan.getLabel()).append(": ").append(plan.getAccess())
+                .append(" (estimated ").append(plan.getEstimate()).append(')');
+        for (QueryPlan operandPlan : plan.getOperandPlans()) {
+            appendPlan(sb, operandPlan, depth + 1);
+        }
+    }
+}
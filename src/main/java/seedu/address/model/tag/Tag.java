@@ -3,9 +3,12 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakValuePool;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Tags created with {@link #of(String)} are shared between all users of the same tag name.
  */
 public class Tag {
 
@@ -18,6 +21,8 @@ public class Tag {
             "Tag name is too long! Please keep it to 50 characters or less.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final WeakValuePool<String, Tag> POOL = new WeakValuePool<>();
+
     public final String tagName;
 
     /**
@@ -32,6 +37,17 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, creating it if it is not in use yet.
+     * Only a newly created tag is validated.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return POOL.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
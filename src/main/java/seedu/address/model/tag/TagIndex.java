@@ -0,0 +1,95 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from tag names to the persons carrying them.
+ * Tag names are matched ignoring case, as {@code find t/} does, and kept in sorted order. Substring lookups visit
+ * each distinct tag once instead of every tag of every person.
+ * The index holds persons by reference, so it must be updated whenever a person is added, replaced or removed.
+ */
+public class TagIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByTagName = new TreeMap<>();
+
+    /**
+     * Adds all tags of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String key : person.getLowerCaseTagNames()) {
+            personsByTagName.computeIfAbsent(key, unused -> newPersonSet()).add(person);
+        }
+    }
+
+    /**
+     * Removes all tags of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String key : person.getLowerCaseTagNames()) {
+            Set<Person> persons = personsByTagName.get(key);
+            if (persons == null) {
+                continue;
+            }
+            if (!persons.remove(person)) {
+                persons.removeIf(indexed -> indexed.equals(person));
+            }
+            if (persons.isEmpty()) {
+                personsByTagName.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the tags of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByTagName.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a tag whose name contains {@code keyword}, ignoring case.
+     */
+    public Set<Person> getPersonsWithTagContaining(String keyword) {
+        requireNonNull(keyword);
+        String key = toKey(keyword);
+        Set<Person> persons = newPersonSet();
+        for (Map.Entry<String, Set<Person>> entry : personsByTagName.entrySet()) {
+            if (entry.getKey().contains(key)) {
+                persons.addAll(entry.getValue());
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons carrying each tag, keyed by the lower case tag name and ordered by it.
+     */
+    public Map<String, Integer> getTagCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        personsByTagName.forEach((tagName, persons) -> counts.put(tagName, persons.size()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static String toKey(String tagName) {
+        return tagName.toLowerCase();
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
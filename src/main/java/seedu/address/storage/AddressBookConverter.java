@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts AddressBook data between storage formats.
+ * Every storage format keeps all the data of an address book, including the order of the persons and the IDs of
+ * their bookings, so a conversion in either direction loses nothing.
+ */
+public final class AddressBookConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookConverter.class);
+
+    private AddressBookConverter() {}
+
+    /**
+     * Saves the address book in {@code source} to {@code target}.
+     * Returns false, leaving {@code target} unchanged, if {@code source} has no data file.
+     *
+     * @throws DataLoadingException if the data in {@code source} could not be loaded.
+     * @throws IOException if the data could not be saved to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted data file " + source.getAddressBookFilePath() + " to "
+                + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the address book in {@code source} to {@code target} if the data file of {@code source} was modified
+     * after that of {@code target}, or if {@code target} has no data file yet. This brings {@code target} up to date
+     * after the user switches back to a storage format used earlier.
+     *
+     * @see #convert(AddressBookStorage, AddressBookStorage)
+     */
+    public static boolean convertIfNewer(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        if (!Files.exists(getDataFilePath(source))) {
+            return false;
+        }
+        if (Files.exists(getDataFilePath(target))
+                && getLastModifiedTime(source).compareTo(getLastModifiedTime(target)) <= 0) {
+            return false;
+        }
+        return convert(source, target);
+    }
+
+    /**
+     * Converts the address book in the most recently modified of {@code sources} to {@code target} if it was
+     * modified after that of {@code target}. Sources without a data file are ignored.
+     *
+     * @see #convertIfNewer(AddressBookStorage, AddressBookStorage)
+     */
+    public static boolean convertIfNewer(List<AddressBookStorage> sources, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(sources, target);
+
+        AddressBookStorage newestSource = null;
+        for (AddressBookStorage source : sources) {
+            if (Files.exists(getDataFilePath(source)) && (newestSource == null
+                    || getLastModifiedTime(source).compareTo(getLastModifiedTime(newestSource)) > 0)) {
+                newestSource = source;
+            }
+        }
+        return newestSource != null && convertIfNewer(newestSource, target);
+    }
+
+    /**
+     * Returns the file whose presence shows that {@code storage} holds data, and that is rewritten on every save:
+     * the data file itself, or the manifest of a sharded storage.
+     */
+    private static Path getDataFilePath(AddressBookStorage storage) {
+        Path filePath = storage.getAddressBookFilePath();
+        if (storage instanceof ShardedAddressBookStorage) {
+            return filePath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        }
+        return filePath;
+    }
+
+    /**
+     * Returns the time the data of {@code storage} was last modified, including the journal of a journaled storage.
+     */
+    private static FileTime getLastModifiedTime(AddressBookStorage storage) throws IOException {
+        Path filePath = getDataFilePath(storage);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        if (storage instanceof JournalAddressBookStorage && Files.exists(journalFilePath)) {
+            FileTime journalModifiedTime = Files.getLastModifiedTime(journalFilePath);
+            if (journalModifiedTime.compareTo(lastModifiedTime) > 0) {
+                return journalModifiedTime;
+            }
+        }
+        return lastModifiedTime;
+    }
+}
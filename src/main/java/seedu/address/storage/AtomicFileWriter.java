@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Replaces the content of a file without leaving it partly written.
+ * The new content is written to a temporary file next to the file, forced to disk and then renamed over the file.
+ */
+final class AtomicFileWriter {
+
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private AtomicFileWriter() {}
+
+    /**
+     * Replaces the content of the file at {@code filePath} with what {@code content} writes, through a buffered stream
+     * over a {@code FileChannel}. The file and its missing parent directories are created if needed.
+     * If the write fails for any reason, the file at {@code filePath} is left as it was and no temporary file remains.
+     */
+    public static void write(Path filePath, Content content) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = getTempFilePath(filePath);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                content.writeTo(out);
+                out.flush();
+                channel.force(false);
+            }
+            replace(tempFilePath, filePath);
+        } catch (Throwable e) {
+            // also covers unchecked exceptions from content, such as a booking that fails to decode
+            try {
+                Files.deleteIfExists(tempFilePath);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that a write to {@code filePath} goes to first.
+     */
+    static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
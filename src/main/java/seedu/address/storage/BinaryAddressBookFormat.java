@@ -0,0 +1,527 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.BookingSource;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact binary format.
+ * All numbers are big-endian. The data is laid out as:
+ * <pre>
+ * int   magic number
+ * int   format version
+ * int   number of persons, followed by, for each person, the length of its record in bytes and the record
+ * int   number of strings in the dictionary, followed by the strings
+ * long  offset of the dictionary from the start of the data
+ * </pre>
+ * A person record holds the name, phone and email as strings, the number of tags and the dictionary index of each,
+ * then the number of bookings and, for each booking, its ID, the dictionary index of its client name, its datetime
+ * as minutes since the epoch in UTC and its description.
+ * A string is its length in bytes, or -1 for no string, followed by its UTF-8 bytes.
+ * Tag names and client names repeat across persons, so each is stored only once, in the dictionary. The dictionary
+ * comes after the persons so that it can be filled in while the persons are written, in a single pass.
+ */
+final class BinaryAddressBookFormat {
+
+    public static final int MAGIC_NUMBER = 0x46494142; // "FIAB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Data is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPT = "Binary address book is corrupt: %s";
+
+    private static final int NO_STRING = -1;
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}. {@code out} is flushed but not closed.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        write(addressBook.getPersonList(), out);
+    }
+
+    /**
+     * Writes an address book holding {@code persons}, in order, to {@code out}. {@code out} is flushed but not closed.
+     */
+    public static void write(List<Person> persons, OutputStream out) throws IOException {
+        RecordBuffer record = new RecordBuffer();
+        record.putInt(MAGIC_NUMBER);
+        record.putInt(VERSION);
+        record.putInt(persons.size());
+        record.writeTo(out);
+        long offset = record.size();
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            record.clear();
+            record.putInt(0); // the length of the record, filled in once known
+            writePerson(record, person, dictionary);
+            record.putLengthAt(0);
+            record.writeTo(out);
+            offset += record.size();
+        }
+
+        record.clear();
+        record.putInt(dictionary.size());
+        for (String string : dictionary.keySet()) {
+            record.putString(string);
+        }
+        record.putLong(offset);
+        record.writeTo(out);
+        out.flush();
+    }
+
+    private static void writePerson(RecordBuffer record, Person person, Map<String, Integer> dictionary) {
+        record.putString(person.getName().fullName);
+        record.putString(person.getPhone() != null ? person.getPhone().value : null);
+        record.putString(person.getEmail() != null ? person.getEmail().value : null);
+        record.putInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            record.putInt(dictionary.computeIfAbsent(tag.tagName, unused -> dictionary.size()));
+        }
+        if (person.getUndecodedBookings() instanceof BinaryBookingSource bookingSource) {
+            bookingSource.writeTo(record, dictionary);
+            return;
+        }
+        record.putInt(person.getBookings().size());
+        for (Booking booking : person.getBookings()) {
+            record.putInt(booking.getId());
+            record.putInt(dictionary.computeIfAbsent(booking.getClientName(), unused -> dictionary.size()));
+            record.putLong(booking.getDateTime().toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE);
+            record.putString(booking.getDescription());
+        }
+    }
+
+    /**
+     * A growable buffer that a record is encoded into before it is written out in one piece.
+     */
+    private static class RecordBuffer {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+        void clear() {
+            buffer.clear();
+        }
+
+        void putInt(int value) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putString(String string) {
+            if (string == null) {
+                putInt(NO_STRING);
+                return;
+            }
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void put(byte[] bytes, int offset, int length) {
+            ensureRemaining(length);
+            buffer.put(bytes, offset, length);
+        }
+
+        /**
+         * Writes the number of bytes after {@code index} at {@code index}.
+         */
+        void putLengthAt(int index) {
+            buffer.putInt(index, buffer.position() - index - Integer.BYTES);
+        }
+
+        int size() {
+            return buffer.position();
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(buffer.array(), 0, buffer.position());
+        }
+
+        private void ensureRemaining(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, from its position to its limit.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a binary address book of a supported version,
+     *     or if there were any data constraints violated.
+     */
+    public static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        return read(buffer, null);
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, leaving the bookings of each person to be decoded when they are
+     * first needed if {@code archiveHorizon} is not null.
+     *
+     * @see #readPersons(ByteBuffer, LocalDateTime)
+     */
+    public static AddressBook read(ByteBuffer buffer, LocalDateTime archiveHorizon) throws IllegalValueException {
+        return PersonListConverter.toAddressBook(readPersons(buffer, archiveHorizon));
+    }
+
+    /**
+     * Reads the persons of the address book in {@code buffer}, from its position to its limit, in order.
+     * The persons are not checked for duplicates.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a binary address book of a supported version,
+     *     or if there were any data constraints violated.
+     */
+    public static List<Person> readPersons(ByteBuffer buffer) throws IllegalValueException {
+        return readPersons(buffer, null);
+    }
+
+    /**
+     * Reads the persons of the address book in {@code buffer} like {@link #readPersons(ByteBuffer)}, but if
+     * {@code archiveHorizon} is not null, the bookings of each person are copied out undecoded, to be decoded when
+     * they are first needed. Bookings before {@code archiveHorizon} are decoded only when bookings before it are
+     * needed, and only their layout is checked here; the other bookings are checked in full.
+     */
+    public static List<Person> readPersons(ByteBuffer buffer, LocalDateTime archiveHorizon)
+            throws IllegalValueException {
+        ByteBuffer data = buffer.slice();
+        try {
+            if (data.remaining() < Integer.BYTES || data.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            int version = data.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int personCount = readCount(data);
+            String[] dictionary = readDictionary(data);
+
+            Tag[] tags = new Tag[dictionary.length];
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(readRecord(data), dictionary, tags, archiveHorizon));
+            }
+            if (data.hasRemaining()) {
+                throw corrupt("unexpected data after the last person");
+            }
+            buffer.position(buffer.limit());
+            return persons;
+        } catch (BufferUnderflowException e) {
+            throw corrupt("unexpected end of data");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the dictionary at the end of {@code data}, and limits {@code data} to the persons before it.
+     */
+    private static String[] readDictionary(ByteBuffer data) throws IllegalValueException {
+        int trailerPosition = data.limit() - Long.BYTES;
+        if (trailerPosition < data.position()) {
+            throw new BufferUnderflowException();
+        }
+        long offset = data.getLong(trailerPosition);
+        if (offset < data.position() || offset > trailerPosition) {
+            throw corrupt("dictionary offset " + offset + " out of range");
+        }
+
+        ByteBuffer dictionaryData = data.duplicate();
+        dictionaryData.limit(trailerPosition);
+        dictionaryData.position((int) offset);
+        String[] dictionary = new String[readCount(dictionaryData)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = requireString(readString(dictionaryData));
+        }
+        if (dictionaryData.hasRemaining()) {
+            throw corrupt("unexpected data after the dictionary");
+        }
+        data.limit((int) offset);
+        return dictionary;
+    }
+
+    /**
+     * Returns the next length-prefixed record of {@code buffer}, and moves {@code buffer} past it.
+     */
+    private static ByteBuffer readRecord(ByteBuffer buffer) throws IllegalValueException {
+        int length = readCount(buffer);
+        ByteBuffer record = buffer.slice();
+        record.limit(length);
+        buffer.position(buffer.position() + length);
+        return record;
+    }
+
+    private static Person readPerson(ByteBuffer record, String[] dictionary, Tag[] tags,
+            LocalDateTime archiveHorizon) throws IllegalValueException {
+        Name name = Name.of(requireString(readString(record)));
+        String phone = readString(record);
+        String email = readString(record);
+
+        int tagCount = readCount(record);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int index = readIndex(record, dictionary);
+            if (tags[index] == null) {
+                tags[index] = Tag.of(dictionary[index]);
+            }
+            personTags.add(tags[index]);
+        }
+
+        int bookingCount = readCount(record);
+        BookingSource bookingSource = null;
+        List<Booking> bookings = null;
+        if (archiveHorizon != null) {
+            bookingSource = readBookingSource(record, bookingCount, dictionary, name,
+                    toEpochMinuteCeiling(archiveHorizon));
+        } else {
+            bookings = readBookings(record, bookingCount, dictionary, Long.MIN_VALUE);
+        }
+
+        if (record.hasRemaining()) {
+            throw corrupt("person record of " + name + " is longer than its data");
+        }
+        Phone modelPhone = phone != null ? new Phone(phone) : null;
+        Email modelEmail = email != null ? new Email(email) : null;
+        return archiveHorizon != null
+                ? new Person(name, modelPhone, modelEmail, personTags, bookingSource, archiveHorizon)
+                : new Person(name, modelPhone, modelEmail, personTags, bookings);
+    }
+
+    /**
+     * Reads {@code bookingCount} bookings from {@code data}, leaving out those before {@code fromEpochMinute}.
+     */
+    private static List<Booking> readBookings(ByteBuffer data, int bookingCount, String[] dictionary,
+            long fromEpochMinute) throws IllegalValueException {
+        List<Booking> bookings = new ArrayList<>(bookingCount);
+        for (int i = 0; i < bookingCount; i++) {
+            int id = data.getInt();
+            String clientName = dictionary[readIndex(data, dictionary)];
+            long epochMinute = data.getLong();
+            if (epochMinute < fromEpochMinute) {
+                skipString(data);
+                continue;
+            }
+            LocalDateTime datetime = toDateTime(epochMinute);
+            bookings.add(new Booking(id, clientName, datetime, requireString(readString(data))));
+        }
+        return bookings;
+    }
+
+    /**
+     * Returns the {@code bookingCount} bookings of {@code personName} at the position of {@code record}, copied out to
+     * be decoded later, and moves {@code record} past them. The bookings at or after {@code horizonEpochMinute} are
+     * checked as they would be when decoded, so that decoding them later cannot fail; of the bookings before it, only
+     * the layout is checked. No {@code Booking} is created.
+     */
+    private static BookingSource readBookingSource(ByteBuffer record, int bookingCount, String[] dictionary,
+            Name personName, long horizonEpochMinute) throws IllegalValueException {
+        int start = record.position();
+        long[] epochMinutes = new long[bookingCount];
+        int upcomingCount = 0;
+        for (int i = 0; i < bookingCount; i++) {
+            int id = record.getInt();
+            String clientName = dictionary[readIndex(record, dictionary)];
+            long epochMinute = record.getLong();
+            if (epochMinute < horizonEpochMinute) {
+                skipString(record);
+                continue;
+            }
+            if (id < Booking.UNASSIGNED_ID) {
+                throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_ID);
+            }
+            if (!Booking.isValidClientName(clientName)) {
+                throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_CLIENT);
+            }
+            toDateTime(epochMinute);
+            if (!Booking.isValidDescription(requireString(readString(record)))) {
+                throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_DESCRIPTION);
+            }
+            epochMinutes[upcomingCount++] = epochMinute;
+        }
+        Arrays.sort(epochMinutes, 0, upcomingCount);
+        for (int i = 1; i < upcomingCount; i++) {
+            if (epochMinutes[i] == epochMinutes[i - 1]) {
+                throw new IllegalValueException(String.format(Person.MESSAGE_DUPLICATE_BOOKING, personName,
+                        toDateTime(epochMinutes[i]).format(Booking.DATETIME_FORMATTER)));
+            }
+        }
+        byte[] bookingData = new byte[record.position() - start];
+        record.position(start);
+        record.get(bookingData);
+        return new BinaryBookingSource(bookingData, bookingCount, dictionary);
+    }
+
+    /**
+     * Returns the first minute since the epoch, in UTC, that is not before {@code datetime}.
+     */
+    private static long toEpochMinuteCeiling(LocalDateTime datetime) {
+        return -Math.floorDiv(-datetime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) throws IllegalValueException {
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, SECONDS_PER_MINUTE), 0,
+                    ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw corrupt("booking datetime out of range");
+        }
+    }
+
+    /**
+     * Reads a count of items or bytes that follow in {@code buffer}. Every item takes up at least one byte, so a
+     * count larger than the rest of {@code buffer} means the data is cut short.
+     */
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw corrupt("negative count " + count);
+        }
+        if (count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static int readIndex(ByteBuffer buffer, String[] dictionary) throws IllegalValueException {
+        int index = buffer.getInt();
+        if (index < 0 || index >= dictionary.length) {
+            throw corrupt("dictionary index " + index + " out of range");
+        }
+        return index;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = buffer.getInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        if (length < 0) {
+            throw corrupt("negative string length " + length);
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string;
+        if (buffer.hasArray()) {
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    private static void skipString(ByteBuffer buffer) throws IllegalValueException {
+        int length = buffer.getInt();
+        if (length == NO_STRING) {
+            return;
+        }
+        if (length < 0) {
+            throw corrupt("negative string length " + length);
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    private static String requireString(String string) throws IllegalValueException {
+        if (string == null) {
+            throw corrupt("missing required string");
+        }
+        return string;
+    }
+
+    private static IllegalValueException corrupt(String reason) {
+        return new IllegalValueException(String.format(MESSAGE_CORRUPT, reason));
+    }
+
+    /**
+     * The bookings of a person, copied out of a binary address book undecoded.
+     */
+    private static class BinaryBookingSource implements BookingSource {
+        private final byte[] data;
+        private final int count;
+        private final String[] dictionary;
+
+        BinaryBookingSource(byte[] data, int count, String[] dictionary) {
+            this.data = data;
+            this.count = count;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public List<Booking> decode(LocalDateTime from) {
+            try {
+                return readBookings(ByteBuffer.wrap(data), count, dictionary,
+                        from == null ? Long.MIN_VALUE : toEpochMinuteCeiling(from));
+            } catch (IllegalValueException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Writes the number of bookings and the bookings to {@code record} as they were read, without decoding them.
+         * Only the client names are looked up again, in {@code dictionary}, which the record is written with.
+         */
+        void writeTo(RecordBuffer record, Map<String, Integer> dictionary) {
+            ByteBuffer bookings = ByteBuffer.wrap(data);
+            record.putInt(count);
+            for (int i = 0; i < count; i++) {
+                record.putInt(bookings.getInt());
+                record.putInt(dictionary.computeIfAbsent(this.dictionary[bookings.getInt()],
+                        unused -> dictionary.size()));
+                record.putLong(bookings.getLong());
+                int descriptionLength = bookings.getInt();
+                record.putInt(descriptionLength);
+                if (descriptionLength != NO_STRING) {
+                    record.put(data, bookings.position(), descriptionLength);
+                    bookings.position(bookings.position() + descriptionLength);
+                }
+            }
+        }
+    }
+}
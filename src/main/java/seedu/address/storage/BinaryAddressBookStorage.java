@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryAddressBookFormat} on the hard
+ * disk. The file is replaced atomically on saving.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isMemoryMapped;
+    private final BookingLoadPolicy bookingLoadPolicy;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped) {
+        this(filePath, isMemoryMapped, BookingLoadPolicy.EAGER);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath} that decodes the file straight
+     * from a memory mapping of it if {@code isMemoryMapped} is true, instead of reading it into memory first.
+     * The bookings of the persons read are decoded as set by {@code bookingLoadPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped, BookingLoadPolicy bookingLoadPolicy) {
+        requireNonNull(bookingLoadPolicy);
+        this.filePath = filePath;
+        this.isMemoryMapped = isMemoryMapped;
+        this.bookingLoadPolicy = bookingLoadPolicy;
+    }
+
+    /**
+     * Returns the path of the binary data file kept in place of the json data file at {@code jsonFilePath}:
+     * the same path with its {@code .json} extension, if any, replaced by {@code .bin}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer data = isMemoryMapped
+                    ? FileUtil.mapFile(filePath)
+                    : ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(BinaryAddressBookFormat.read(data,
+                    bookingLoadPolicy.getArchiveHorizon(LocalDateTime.now())));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AtomicFileWriter.write(filePath, out -> BinaryAddressBookFormat.write(addressBook, out));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * How the bookings of persons are decoded when an address book is read: all at once, or the bookings of each person
+ * when they are first needed, with the bookings older than an archive age decoded only when bookings that old are
+ * needed.
+ * Guarantees: immutable.
+ */
+public final class BookingLoadPolicy {
+
+    public static final BookingLoadPolicy EAGER = new BookingLoadPolicy(false, 0);
+
+    private final boolean isLazy;
+    private final int archiveDays;
+
+    private BookingLoadPolicy(boolean isLazy, int archiveDays) {
+        this.isLazy = isLazy;
+        this.archiveDays = archiveDays;
+    }
+
+    /**
+     * Returns the policy of decoding bookings when they are first needed, holding back the bookings more than
+     * {@code archiveDays} days old until bookings that old are needed.
+     */
+    public static BookingLoadPolicy lazy(int archiveDays) {
+        checkArgument(archiveDays >= 0, "The archive age must not be negative.");
+        return new BookingLoadPolicy(true, archiveDays);
+    }
+
+    public boolean isLazy() {
+        return isLazy;
+    }
+
+    /**
+     * Returns the time before which bookings are held back when reading at {@code now}, or null if bookings are
+     * decoded when they are read.
+     */
+    public LocalDateTime getArchiveHorizon(LocalDateTime now) {
+        return isLazy ? now.minusDays(archiveDays) : null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BookingLoadPolicy)) {
+            return false;
+        }
+
+        BookingLoadPolicy otherPolicy = (BookingLoadPolicy) other;
+        return isLazy == otherPolicy.isLazy && archiveDays == otherPolicy.archiveDays;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isLazy, archiveDays);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isLazy", isLazy)
+                .add("archiveDays", archiveDays)
+                .toString();
+    }
+}
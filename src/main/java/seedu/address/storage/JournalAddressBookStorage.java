@@ -0,0 +1,348 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus a journal of the changes made since the
+ * snapshot was written.
+ * A save appends only the changes since the previous save to the journal, one json object per line. Once the journal
+ * grows past a size threshold, it is compacted: the whole address book is written to the snapshot and the journal
+ * starts again. A read replays the journal on top of the snapshot.
+ * The journal starts with an entry holding a checksum of the snapshot file it was recorded against, so a journal left
+ * behind by an interrupted compaction, or one whose snapshot was rewritten otherwise, such as by editing it by hand,
+ * is recognised and not replayed. Such a journal is moved aside with a warning rather than deleted, as its changes
+ * may not be in the snapshot.
+ * The entry also holds the size and modification time of the snapshot. While they are unchanged, the snapshot is
+ * taken to be unchanged, so it is only read to compute its checksum again once they differ.
+ * A journal left behind after journaling is turned off is folded into the snapshot by
+ * {@link #compactLeftoverJournal(JsonAddressBookStorage)}.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String UNAPPLIED_JOURNAL_FILE_SUFFIX = ".unapplied-";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final long compactionThresholdBytes;
+
+    // The persons as last read from or saved to persistedFilePath, which later saves are compared against
+    private Path persistedFilePath;
+    private List<Person> persistedPersons;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with its snapshot at {@code filePath} that compacts the journal
+     * once it is larger than {@code compactionThresholdBytes}.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        this(new JsonAddressBookStorage(requireNonNull(filePath)), compactionThresholdBytes);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot in {@code snapshotStorage} and compacts the
+     * journal once it is larger than {@code compactionThresholdBytes}.
+     */
+    public JournalAddressBookStorage(JsonAddressBookStorage snapshotStorage, long compactionThresholdBytes) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Replays the journal left next to the snapshot of {@code snapshotStorage}, if any, into the snapshot and deletes
+     * the journal, so that no changes are lost once journaling is turned off.
+     *
+     * @return true if a journal was found and compacted.
+     * @throws DataLoadingException if the snapshot or the journal cannot be read. Both are left as they were.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public static boolean compactLeftoverJournal(JsonAddressBookStorage snapshotStorage)
+            throws DataLoadingException, IOException {
+        requireNonNull(snapshotStorage);
+        Path filePath = snapshotStorage.getAddressBookFilePath();
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook =
+                new JournalAddressBookStorage(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD_BYTES).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        logger.info("Compacting journal " + journalFilePath + " left from when journaling was on");
+        snapshotStorage.saveAddressBook(addressBook.get());
+        Files.deleteIfExists(journalFilePath);
+        return true;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        try {
+            replayJournal(getJournalFilePath(filePath), filePath, persons);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Journal of " + filePath + " could not be replayed: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        persistedFilePath = filePath;
+        persistedPersons = persons;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!filePath.equals(persistedFilePath) || !Files.exists(filePath) || !Files.exists(journalFilePath)
+                || Files.size(journalFilePath) > compactionThresholdBytes) {
+            compact(persons, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = diff(persistedPersons, persons);
+        if (!entries.isEmpty()) {
+            try {
+                appendToJournal(journalFilePath, entries);
+            } catch (IOException e) {
+                // The journal may end with part of an entry now, so the next save starts a new one
+                persistedFilePath = null;
+                throw e;
+            }
+        }
+        persistedPersons = persons;
+    }
+
+    /**
+     * Writes {@code persons} to the snapshot at {@code filePath} and starts a new journal against it.
+     */
+    private void compact(List<Person> persons, Path filePath) throws IOException {
+        logger.fine("Compacting journal of " + filePath);
+        persistedFilePath = null;
+        snapshotStorage.saveAddressBook(() -> FXCollections.observableList(persons), filePath);
+        JsonAdaptedJournalEntry base = JsonAdaptedJournalEntry.base(checksum(filePath), Files.size(filePath),
+                getModifiedNanos(filePath));
+        Files.write(getJournalFilePath(filePath), (JsonUtil.toJsonLine(base) + "\n").getBytes(StandardCharsets.UTF_8));
+        persistedFilePath = filePath;
+        persistedPersons = persons;
+    }
+
+    private static void appendToJournal(Path journalFilePath, List<JsonAdaptedJournalEntry> entries)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toJsonLine(entry)).append('\n');
+        }
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns a checksum of the contents of the file at {@code filePath}.
+     */
+    static long checksum(Path filePath) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32C())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+
+    private static long getModifiedNanos(Path filePath) throws IOException {
+        return Files.getLastModifiedTime(filePath).to(TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns true if {@code base} starts a journal recorded against the snapshot at {@code snapshotFilePath}.
+     * The snapshot is only read to compute its checksum if its size or modification time changed.
+     */
+    private static boolean isBaseOf(JsonAdaptedJournalEntry base, Path snapshotFilePath) throws IOException {
+        return base.isBaseOf(Files.size(snapshotFilePath), getModifiedNanos(snapshotFilePath))
+                || base.isBaseOf(checksum(snapshotFilePath));
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} to {@code persons}, the persons of the snapshot
+     * at {@code snapshotFilePath}. A missing journal changes nothing, and one recorded against another snapshot
+     * changes nothing but is moved aside, so that later saves start a new journal. A last line that is cut short, as
+     * left by an interrupted save, is ignored.
+     */
+    private static void replayJournal(Path journalFilePath, Path snapshotFilePath, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()
+                || !isBaseOf(JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalEntry.class), snapshotFilePath)) {
+            setAside(journalFilePath, lines.size() > 1);
+            return;
+        }
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    return;
+                }
+                throw e;
+            }
+            entry.applyTo(persons);
+        }
+    }
+
+    /**
+     * Moves the journal at {@code journalFilePath}, which does not belong to the current snapshot, out of the way of
+     * later saves. A journal with {@code hasEntries} is kept under a new name, as the snapshot may not hold its
+     * changes, for instance if the snapshot was edited by hand; one without entries is deleted.
+     */
+    private static void setAside(Path journalFilePath, boolean hasEntries) throws IOException {
+        if (!hasEntries) {
+            Files.delete(journalFilePath);
+            return;
+        }
+        Path unappliedFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName()
+                + UNAPPLIED_JOURNAL_FILE_SUFFIX + System.currentTimeMillis());
+        Files.move(journalFilePath, unappliedFilePath);
+        logger.warning("The data file was changed since journal " + journalFilePath + " was recorded, so the changes"
+                + " in it were not loaded. The journal has been kept as " + unappliedFilePath);
+    }
+
+    /**
+     * Returns the journal entries that turn {@code oldPersons} into {@code newPersons}.
+     * Only the persons between the longest common prefix and the longest common suffix of the lists are compared,
+     * so a single addition, edit or removal gives a single entry.
+     */
+    static List<JsonAdaptedJournalEntry> diff(List<Person> oldPersons, List<Person> newPersons) {
+        int start = 0;
+        int oldEnd = oldPersons.size();
+        int newEnd = newPersons.size();
+        while (start < oldEnd && start < newEnd && isSame(oldPersons.get(start), newPersons.get(start))) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && isSame(oldPersons.get(oldEnd - 1), newPersons.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (oldEnd - start == newEnd - start) {
+            for (int i = start; i < oldEnd; i++) {
+                addReplacementEntries(entries, i, oldPersons.get(i), newPersons.get(i));
+            }
+            return entries;
+        }
+        for (int i = start; i < oldEnd; i++) {
+            entries.add(JsonAdaptedJournalEntry.remove(start));
+        }
+        for (int i = start; i < newEnd; i++) {
+            entries.add(JsonAdaptedJournalEntry.insert(i, newPersons.get(i)));
+        }
+        return entries;
+    }
+
+    /**
+     * Adds the entries that replace {@code oldPerson} at {@code index} with {@code newPerson}: a booking entry for
+     * each booking added or removed if only the bookings differ, or else one entry replacing the whole person.
+     */
+    private static void addReplacementEntries(List<JsonAdaptedJournalEntry> entries, int index, Person oldPerson,
+            Person newPerson) {
+        if (isSame(oldPerson, newPerson)) {
+            return;
+        }
+        boolean isSameDetails = oldPerson.getName().equals(newPerson.getName())
+                && Objects.equals(oldPerson.getPhone(), newPerson.getPhone())
+                && Objects.equals(oldPerson.getEmail(), newPerson.getEmail())
+                && oldPerson.getTags().equals(newPerson.getTags());
+        if (!isSameDetails) {
+            entries.add(JsonAdaptedJournalEntry.set(index, newPerson));
+            return;
+        }
+        for (Booking booking : oldPerson.getBookings()) {
+            if (!booking.equals(newPerson.getBookingById(booking.getId()).orElse(null))) {
+                entries.add(JsonAdaptedJournalEntry.removeBooking(index, booking.getId()));
+            }
+        }
+        for (Booking booking : newPerson.getBookings()) {
+            if (!booking.equals(oldPerson.getBookingById(booking.getId()).orElse(null))) {
+                entries.add(JsonAdaptedJournalEntry.addBooking(index, booking));
+            }
+        }
+    }
+
+    private static boolean isSame(Person oldPerson, Person newPerson) {
+        return oldPerson == newPerson || oldPerson.equals(newPerson);
+    }
+}
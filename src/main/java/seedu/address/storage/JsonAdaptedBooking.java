@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.booking.Booking;
@@ -15,19 +18,23 @@ class JsonAdaptedBooking {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Booking's %s field is missing!";
 
+    private static final Pattern SORTABLE_DATETIME = Pattern.compile("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}");
+
+    private final String id;
     private final String clientName;
     private final String datetime;
     private final String description;
 
     /**
      * Constructs a {@code JsonAdaptedBooking} with the given booking details.
-     * Note: The 'id' field is no longer used but kept in JSON for backward compatibility.
+     * The 'id' field may be missing or in an older format, in which case the booking is given a new ID on loading.
      */
     @JsonCreator
-    public JsonAdaptedBooking(@JsonProperty("id") String id, // Kept for backward compatibility, not used
+    public JsonAdaptedBooking(@JsonProperty("id") String id,
                               @JsonProperty("clientName") String clientName,
                               @JsonProperty("datetime") String datetime,
                               @JsonProperty("description") String description) {
+        this.id = id;
         this.clientName = clientName;
         this.datetime = datetime;
         this.description = description;
@@ -37,24 +44,61 @@ class JsonAdaptedBooking {
      * Converts a given {@code Booking} into this class for Jackson use.
      */
     public JsonAdaptedBooking(Booking source) {
+        id = source.hasId() ? String.valueOf(source.getId()) : null;
         clientName = source.getClientName();
         datetime = source.getDateTimeString();
         description = source.getDescription();
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same form as Jackson writes a {@code JsonAdaptedBooking},
+     * without creating one.
+     */
+    public static void write(Booking source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", source.hasId() ? String.valueOf(source.getId()) : null);
+        generator.writeStringField("clientName", source.getClientName());
+        generator.writeStringField("datetime", source.getDateTimeString());
+        generator.writeStringField("description", source.getDescription());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes this booking to {@code generator} exactly as it was read, in the same form as Jackson writes it.
+     */
+    public void write(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", id);
+        generator.writeStringField("clientName", clientName);
+        generator.writeStringField("datetime", datetime);
+        generator.writeStringField("description", description);
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted booking object into the model's {@code Booking} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted booking.
      */
     public Booking toModelType() throws IllegalValueException {
+        final int modelId = parseId();
+        final LocalDateTime modelDatetime = checkValid();
+        return new Booking(modelId, clientName, modelDatetime, description);
+    }
+
+    /**
+     * Checks that this booking can be converted into the model's {@code Booking} object, without converting it.
+     *
+     * @return the datetime of this booking.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted booking.
+     */
+    public LocalDateTime checkValid() throws IllegalValueException {
         if (clientName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "clientName"));
         }
         if (!Booking.isValidClientName(clientName)) {
             throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_CLIENT);
         }
-        final String modelClientName = clientName;
 
         if (datetime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "datetime"));
@@ -70,9 +114,32 @@ class JsonAdaptedBooking {
         if (!Booking.isValidDescription(description)) {
             throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_DESCRIPTION);
         }
-        final String modelDescription = description;
+        return modelDatetime;
+    }
+
+    /**
+     * Returns true if the datetime of this booking is before {@code datetime}, which is formatted with
+     * {@link Booking#DATETIME_FORMATTER}, comparing the two as strings without parsing them. Only datetimes in that
+     * format with four-digit years sort as their strings do, so if either is not one, returns false.
+     */
+    public boolean isBefore(String datetime) {
+        return this.datetime != null && SORTABLE_DATETIME.matcher(this.datetime).matches()
+                && SORTABLE_DATETIME.matcher(datetime).matches() && this.datetime.compareTo(datetime) < 0;
+    }
 
-        return new Booking(modelClientName, modelDatetime, modelDescription);
+    /**
+     * Returns the stored ID, or {@link Booking#UNASSIGNED_ID} if there is none.
+     * Older versions stored IDs in other formats; those bookings are given a new ID instead.
+     */
+    private int parseId() {
+        if (id == null) {
+            return Booking.UNASSIGNED_ID;
+        }
+        try {
+            return Math.max(Integer.parseInt(id.trim()), Booking.UNASSIGNED_ID);
+        } catch (NumberFormatException e) {
+            return Booking.UNASSIGNED_ID;
+        }
     }
 }
 
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the person list of an address book, as recorded in a journal.
+ * Persons are identified by their position in the list, so replaying the entries of a journal in order on the
+ * list they were recorded against reproduces the list exactly, including its order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+
+    static final String BASE = "base";
+    static final String INSERT = "insert";
+    static final String REMOVE = "remove";
+    static final String SET = "set";
+    static final String ADD_BOOKING = "addBooking";
+    static final String REMOVE_BOOKING = "removeBooking";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedBooking booking;
+    private final Integer bookingId;
+    private final Long snapshotChecksum;
+    private final Long snapshotSize;
+    private final Long snapshotModifiedNanos;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("booking") JsonAdaptedBooking booking,
+            @JsonProperty("bookingId") Integer bookingId, @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+            @JsonProperty("snapshotSize") Long snapshotSize,
+            @JsonProperty("snapshotModifiedNanos") Long snapshotModifiedNanos) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.booking = booking;
+        this.bookingId = bookingId;
+        this.snapshotChecksum = snapshotChecksum;
+        this.snapshotSize = snapshotSize;
+        this.snapshotModifiedNanos = snapshotModifiedNanos;
+    }
+
+    /**
+     * Returns the entry that starts a journal recorded against the snapshot file with checksum
+     * {@code snapshotChecksum}, which is {@code snapshotSize} bytes long and was last modified at
+     * {@code snapshotModifiedNanos} nanoseconds since the epoch.
+     */
+    public static JsonAdaptedJournalEntry base(long snapshotChecksum, long snapshotSize, long snapshotModifiedNanos) {
+        return new JsonAdaptedJournalEntry(BASE, null, null, null, null, snapshotChecksum, snapshotSize,
+                snapshotModifiedNanos);
+    }
+
+    /**
+     * Returns an entry that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry insert(int index, Person person) {
+        return new JsonAdaptedJournalEntry(INSERT, index, new JsonAdaptedPerson(person), null, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry remove(int index) {
+        return new JsonAdaptedJournalEntry(REMOVE, index, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Person person) {
+        return new JsonAdaptedJournalEntry(SET, index, new JsonAdaptedPerson(person), null, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry that adds {@code booking} to the person at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry addBooking(int index, Booking booking) {
+        return new JsonAdaptedJournalEntry(ADD_BOOKING, index, null, new JsonAdaptedBooking(booking), null, null,
+                null, null);
+    }
+
+    /**
+     * Returns an entry that removes the booking with ID {@code bookingId} from the person at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry removeBooking(int index, int bookingId) {
+        return new JsonAdaptedJournalEntry(REMOVE_BOOKING, index, null, null, bookingId, null, null, null);
+    }
+
+    /**
+     * Returns true if this entry starts a journal recorded against a snapshot file of {@code snapshotSize} bytes,
+     * last modified at {@code snapshotModifiedNanos}, so that the snapshot can be taken to be unchanged without
+     * reading it. Journals recorded before the size and time were kept never match.
+     */
+    public boolean isBaseOf(long snapshotSize, long snapshotModifiedNanos) {
+        return BASE.equals(op) && this.snapshotSize != null && this.snapshotSize == snapshotSize
+                && this.snapshotModifiedNanos != null && this.snapshotModifiedNanos == snapshotModifiedNanos;
+    }
+
+    /**
+     * Returns true if this entry starts a journal recorded against the snapshot file with checksum
+     * {@code snapshotChecksum}.
+     */
+    public boolean isBaseOf(long snapshotChecksum) {
+        return BASE.equals(op) && this.snapshotChecksum != null && this.snapshotChecksum == snapshotChecksum;
+    }
+
+    /**
+     * Applies the change of this entry to {@code persons}.
+     *
+     * @throws IllegalValueException if this entry is invalid or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null || BASE.equals(op)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "unexpected operation " + op));
+        }
+        int size = INSERT.equals(op) ? persons.size() + 1 : persons.size();
+        if (index == null || index < 0 || index >= size) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "no person at index " + index));
+        }
+
+        try {
+            switch (op) {
+            case INSERT:
+                persons.add(index, requirePerson().toModelType());
+                break;
+            case REMOVE:
+                persons.remove((int) index);
+                break;
+            case SET:
+                persons.set(index, requirePerson().toModelType());
+                break;
+            case ADD_BOOKING:
+                persons.set(index, persons.get(index).withBooking(requireBooking().toModelType()));
+                break;
+            case REMOVE_BOOKING:
+                if (bookingId == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing booking ID"));
+                }
+                persons.set(index, persons.get(index).withoutBooking(bookingId));
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "unknown operation " + op));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, e.getMessage()));
+        }
+    }
+
+    private JsonAdaptedPerson requirePerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing person"));
+        }
+        return person;
+    }
+
+    private JsonAdaptedBooking requireBooking() throws IllegalValueException {
+        if (booking == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing booking"));
+        }
+        return booking;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,9 +10,11 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.person.BookingSource;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -59,9 +63,42 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        bookings.addAll(source.getBookings().stream()
-                .map(JsonAdaptedBooking::new)
-                .collect(Collectors.toList()));
+        if (source.getUndecodedBookings() instanceof JsonBookingSource bookingSource) {
+            bookings.addAll(bookingSource.bookings);
+        } else {
+            bookings.addAll(source.getBookings().stream()
+                    .map(JsonAdaptedBooking::new)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same form as Jackson writes a {@code JsonAdaptedPerson},
+     * without creating one.
+     */
+    public static void write(Person source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullName);
+        generator.writeStringField("phone", source.getPhone() != null ? source.getPhone().value : null);
+        generator.writeStringField("email", source.getEmail() != null ? source.getEmail().value : null);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : source.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("bookings");
+        if (source.getUndecodedBookings() instanceof JsonBookingSource bookingSource) {
+            // copied as they were read, so that the bookings not needed yet are never converted
+            for (JsonAdaptedBooking booking : bookingSource.bookings) {
+                booking.write(generator);
+            }
+        } else {
+            for (Booking booking : source.getBookings()) {
+                JsonAdaptedBooking.write(booking, generator);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
 
     /**
@@ -70,14 +107,28 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, leaving its
+     * bookings to be converted when they are first needed if {@code archiveHorizon} is not null. The bookings before
+     * {@code archiveHorizon} are converted, and checked, only when bookings before it are needed; the rest are
+     * checked now.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(LocalDateTime archiveHorizon) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
         }
 
         final List<Booking> personBookings = new ArrayList<>();
-        for (JsonAdaptedBooking booking : bookings) {
-            personBookings.add(booking.toModelType());
+        if (archiveHorizon == null) {
+            for (JsonAdaptedBooking booking : bookings) {
+                personBookings.add(booking.toModelType());
+            }
         }
 
         if (name == null) {
@@ -86,7 +137,13 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
+        final JsonBookingSource bookingSource = archiveHorizon != null
+                ? new JsonBookingSource(bookings, archiveHorizon)
+                : null;
+        if (bookingSource != null) {
+            bookingSource.checkUpcomingBookings(modelName);
+        }
 
         // Phone is optional
         final Phone modelPhone;
@@ -112,10 +169,71 @@ class JsonAdaptedPerson {
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         try {
-            return new Person(modelName, modelPhone, modelEmail, modelTags, personBookings);
+            return archiveHorizon == null
+                    ? new Person(modelName, modelPhone, modelEmail, modelTags, personBookings)
+                    : new Person(modelName, modelPhone, modelEmail, modelTags, bookingSource, archiveHorizon);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
     }
 
+    /**
+     * The adapted bookings of a person, converted when they are needed. The bookings before the archive horizon are
+     * told apart by their datetime strings, so none of them is parsed or checked until the archive is needed.
+     */
+    private static class JsonBookingSource implements BookingSource {
+        private final List<JsonAdaptedBooking> bookings;
+        private final List<JsonAdaptedBooking> upcomingBookings = new ArrayList<>();
+        private final LocalDateTime archiveHorizon;
+
+        JsonBookingSource(List<JsonAdaptedBooking> bookings, LocalDateTime archiveHorizon) {
+            this.bookings = bookings;
+            this.archiveHorizon = archiveHorizon;
+            String formattedHorizon = archiveHorizon.format(Booking.DATETIME_FORMATTER);
+            for (JsonAdaptedBooking booking : bookings) {
+                if (!booking.isBefore(formattedHorizon)) {
+                    upcomingBookings.add(booking);
+                }
+            }
+        }
+
+        /**
+         * Checks that the bookings of {@code personName} that are not before the archive horizon can all be converted,
+         * so that converting them later cannot fail.
+         */
+        void checkUpcomingBookings(Name personName) throws IllegalValueException {
+            Set<LocalDateTime> datetimes = new HashSet<>();
+            for (JsonAdaptedBooking booking : upcomingBookings) {
+                LocalDateTime datetime = booking.checkValid();
+                if (!datetimes.add(datetime)) {
+                    throw new IllegalValueException(String.format(Person.MESSAGE_DUPLICATE_BOOKING, personName,
+                            datetime.format(Booking.DATETIME_FORMATTER)));
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return bookings.size();
+        }
+
+        @Override
+        public List<Booking> decode(LocalDateTime from) {
+            boolean isAfterHorizon = from != null && !from.isBefore(archiveHorizon);
+            List<Booking> decoded = new ArrayList<>();
+            for (JsonAdaptedBooking booking : isAfterHorizon ? upcomingBookings : bookings) {
+                Booking modelBooking;
+                try {
+                    modelBooking = booking.toModelType();
+                } catch (IllegalValueException e) {
+                    throw new IllegalArgumentException(e.getMessage(), e);
+                }
+                if (from == null || !modelBooking.getDateTime().isBefore(from)) {
+                    decoded.add(modelBooking);
+                }
+            }
+            return decoded;
+        }
+    }
+
 }
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book: the name of the current file of each segment.
+ * Every save that rewrites segments writes them under a new generation number, so the files named by the manifest
+ * are never overwritten, and replacing the manifest switches to the new segments all at once.
+ */
+class JsonAdaptedShardManifest {
+
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Sharded address book version %d is not supported.";
+    public static final String MESSAGE_INVALID_MANIFEST = "Sharded address book manifest is invalid: %s";
+
+    private final int version;
+    private final long generation;
+    private final List<String> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("version") int version,
+            @JsonProperty("generation") long generation, @JsonProperty("segments") List<String> segments) {
+        this.version = version;
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} of the current version.
+     */
+    public JsonAdaptedShardManifest(long generation, List<String> segments) {
+        this(VERSION, generation, segments);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Checks that this manifest is of a supported version and names a file for every segment.
+     *
+     * @throws IllegalValueException if it is not.
+     */
+    public void validate() throws IllegalValueException {
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (segments.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MANIFEST, "no segments"));
+        }
+        for (String segment : segments) {
+            if (segment == null || !ShardedAddressBookStorage.isSegmentFileName(segment)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_MANIFEST,
+                        "invalid segment file name " + segment));
+            }
+        }
+    }
+}
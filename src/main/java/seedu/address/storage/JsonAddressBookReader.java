@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} one batch of persons at a time.
+ * Each batch is converted in parallel before the next one is read, so apart from the converted persons, only one
+ * batch of read data is held in memory at any time.
+ */
+final class JsonAddressBookReader {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final int BATCH_SIZE = 4096;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book in {@code in}. A missing persons list reads as an empty address book, and fields other
+     * than the persons list are ignored.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold valid JSON data.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        return read(in, null);
+    }
+
+    /**
+     * Reads the address book in {@code in}, leaving the bookings of each person to be converted when they are first
+     * needed if {@code archiveHorizon} is not null.
+     *
+     * @see JsonAdaptedPerson#toModelType(LocalDateTime)
+     * @see #read(InputStream)
+     */
+    public static AddressBook read(InputStream in, LocalDateTime archiveHorizon)
+            throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Address book data must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                    readPersons(parser, persons, archiveHorizon);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return PersonListConverter.toAddressBook(persons);
+    }
+
+    /**
+     * Reads the persons array at the current token of {@code parser} into {@code persons}.
+     */
+    private static void readPersons(JsonParser parser, List<Person> persons, LocalDateTime archiveHorizon)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Persons must be a JSON array");
+        }
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == BATCH_SIZE) {
+                persons.addAll(PersonListConverter.toModelType(batch, archiveHorizon));
+                batch.clear();
+            }
+        }
+        persons.addAll(PersonListConverter.toModelType(batch, archiveHorizon));
+    }
+}
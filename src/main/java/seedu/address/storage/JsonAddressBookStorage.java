@@ -3,28 +3,56 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person at a time, without building the whole JSON tree in memory, and is
+ * replaced atomically on saving.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isMemoryMapped;
+    private final BookingLoadPolicy bookingLoadPolicy;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true, false);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, boolean isMemoryMapped) {
+        this(filePath, isPrettyPrinted, isMemoryMapped, BookingLoadPolicy.EAGER);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath} that indents the data it saves if
+     * {@code isPrettyPrinted} is true, and parses the file from a memory mapping of it if {@code isMemoryMapped} is
+     * true instead of reading it through a stream. The bookings of the persons read are decoded as set by
+     * {@code bookingLoadPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, boolean isMemoryMapped,
+            BookingLoadPolicy bookingLoadPolicy) {
+        requireNonNull(bookingLoadPolicy);
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isMemoryMapped = isMemoryMapped;
+        this.bookingLoadPolicy = bookingLoadPolicy;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +73,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = isMemoryMapped
+                ? new ByteBufferBackedInputStream(FileUtil.mapFile(filePath))
+                : Files.newInputStream(filePath)) {
+            return Optional.of(JsonAddressBookReader.read(in,
+                    bookingLoadPolicy.getArchiveHorizon(LocalDateTime.now())));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +105,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookWriter.writeToFile(addressBook, filePath, isPrettyPrinted);
     }
 
 }
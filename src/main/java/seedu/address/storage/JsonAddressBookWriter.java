@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} one person at a time.
+ * Each person is written to the output as soon as it is converted, so the address book is never held in memory
+ * as adapted objects or as one JSON string.
+ */
+final class JsonAddressBookWriter {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, indented if {@code isPretty} is true. {@code out} is not closed.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPretty)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPretty)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                JsonAdaptedPerson.write(person, generator);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Replaces the content of the file at {@code filePath} with {@code addressBook}, as described in
+     * {@link AtomicFileWriter#write(Path, AtomicFileWriter.Content)}.
+     */
+    public static void writeToFile(ReadOnlyAddressBook addressBook, Path filePath, boolean isPretty)
+            throws IOException {
+        AtomicFileWriter.write(filePath, out -> write(addressBook, out, isPretty));
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Converts read persons into the model's {@code Person}s and adds them to an address book.
+ * The persons are converted and validated in parallel; if several are invalid, the error of the first of them in
+ * file order is thrown, as if they had been converted one by one. Duplicate persons are then found in a single pass
+ * while all the persons are added at once.
+ */
+final class PersonListConverter {
+
+    /** Persons converted by a single task, below which splitting costs more than it gains. */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private PersonListConverter() {}
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person}s, in the same order.
+     *
+     * @param archiveHorizon see {@link JsonAdaptedPerson#toModelType(LocalDateTime)}.
+     * @throws IllegalValueException if there were any data constraints violated in the first invalid person.
+     */
+    static List<Person> toModelType(List<JsonAdaptedPerson> adaptedPersons, LocalDateTime archiveHorizon)
+            throws IllegalValueException {
+        Person[] persons = new Person[adaptedPersons.size()];
+        ConversionTask task = new ConversionTask(adaptedPersons, archiveHorizon, persons, 0, persons.length);
+        Exception error = persons.length <= SEQUENTIAL_THRESHOLD ? task.compute() : ForkJoinPool.commonPool()
+                .invoke(task);
+        if (error instanceof IllegalValueException) {
+            throw (IllegalValueException) error;
+        } else if (error != null) {
+            throw (RuntimeException) error;
+        }
+        return Arrays.asList(persons);
+    }
+
+    /**
+     * Returns an address book of {@code persons}.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts the adapted persons in a range into the same range of {@code persons}, returning the error of the
+     * first invalid person in the range, or null if all are valid.
+     * Errors are returned rather than thrown, as the pool would wrap checked exceptions.
+     */
+    private static class ConversionTask extends RecursiveTask<Exception> {
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final LocalDateTime archiveHorizon;
+        private final Person[] persons;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<JsonAdaptedPerson> adaptedPersons, LocalDateTime archiveHorizon, Person[] persons,
+                int start, int end) {
+            this.adaptedPersons = adaptedPersons;
+            this.archiveHorizon = archiveHorizon;
+            this.persons = persons;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Exception compute() {
+            if (end - start <= SEQUENTIAL_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    try {
+                        persons[i] = adaptedPersons.get(i).toModelType(archiveHorizon);
+                    } catch (IllegalValueException | RuntimeException e) {
+                        return e;
+                    }
+                }
+                return null;
+            }
+
+            int middle = (start + end) >>> 1;
+            ConversionTask first = new ConversionTask(adaptedPersons, archiveHorizon, persons, start, middle);
+            ConversionTask second = new ConversionTask(adaptedPersons, archiveHorizon, persons, middle, end);
+            second.fork();
+            Exception firstError = first.compute();
+            Exception secondError = second.join();
+            return firstError != null ? firstError : secondError;
+        }
+    }
+}
@@ -0,0 +1,566 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a directory of segment files and a manifest naming them.
+ * Each person is kept in the segment picked by the hash of its name, together with a sequence number that places it
+ * in the order of all the persons. Saving rewrites only the segments holding persons that changed since the data was
+ * last read or saved by this storage, so the amount written grows with the size of the change rather than the size of
+ * the address book. The segments are read in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final int DEFAULT_SEGMENT_COUNT = 64;
+
+    public static final int SEGMENT_MAGIC_NUMBER = 0x46495347; // "FISG"
+    public static final int SEGMENT_VERSION = 1;
+
+    public static final String MESSAGE_CORRUPT_SEGMENT = "Segment %s of sharded address book is corrupt: %s";
+
+    /** The distance between the sequence numbers of consecutive persons when they are numbered afresh. */
+    static final long SEQUENCE_GAP = 1L << 16;
+
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("segment-\\d+-\\d+\\.bin");
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directoryPath;
+    private final int segmentCount;
+    private final BookingLoadPolicy bookingLoadPolicy;
+
+    // The persons last read from or saved to persistedDirectoryPath, in order, and their sequence numbers
+    private Path persistedDirectoryPath;
+    private List<Person> persistedPersons;
+    private long[] persistedSequences;
+    private JsonAdaptedShardManifest persistedManifest;
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, DEFAULT_SEGMENT_COUNT);
+    }
+
+    public ShardedAddressBookStorage(Path directoryPath, int segmentCount) {
+        this(directoryPath, segmentCount, BookingLoadPolicy.EAGER);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the directory at {@code directoryPath} that spreads a newly
+     * written address book over {@code segmentCount} segments. An existing address book keeps its number of segments.
+     * The bookings of the persons read are decoded as set by {@code bookingLoadPolicy}.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, int segmentCount, BookingLoadPolicy bookingLoadPolicy) {
+        requireAllNonNull(directoryPath, bookingLoadPolicy);
+        checkArgument(segmentCount > 0, "The number of segments must be positive.");
+        this.directoryPath = directoryPath;
+        this.segmentCount = segmentCount;
+        this.bookingLoadPolicy = bookingLoadPolicy;
+    }
+
+    /**
+     * Returns the path of the directory kept in place of the json data file at {@code jsonFilePath}:
+     * the same path with its {@code .json} extension, if any, replaced by {@code .shards}.
+     */
+    public static Path getShardDirectoryPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of a segment file.
+     */
+    static boolean isSegmentFileName(String fileName) {
+        return SEGMENT_FILE_NAME.matcher(fileName).matches();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath) throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonAdaptedShardManifest> manifest =
+                JsonUtil.readJsonFile(directoryPath.resolve(MANIFEST_FILE_NAME), JsonAdaptedShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons;
+        long[] sequences;
+        try {
+            manifest.get().validate();
+            List<Segment> segments = readSegments(directoryPath, manifest.get().getSegments(),
+                    bookingLoadPolicy.getArchiveHorizon(LocalDateTime.now()));
+            persons = new ArrayList<>();
+            sequences = merge(segments, persons);
+        } catch (IOException e) {
+            logger.warning("Error reading from sharded address book " + directoryPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        persistedDirectoryPath = directoryPath;
+        persistedPersons = persons;
+        persistedSequences = sequences;
+        persistedManifest = manifest.get();
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the segment files named {@code fileNames} in {@code directoryPath} in parallel.
+     * If several segments cannot be read, the error of the first of them is thrown.
+     */
+    private static List<Segment> readSegments(Path directoryPath, List<String> fileNames,
+            LocalDateTime archiveHorizon) throws IOException, IllegalValueException {
+        // the tasks return their errors rather than throw them, as the pool wraps checked exceptions
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < fileNames.size(); i++) {
+            int segmentIndex = i;
+            Path segmentPath = directoryPath.resolve(fileNames.get(i));
+            tasks.add(() -> {
+                try {
+                    return readSegment(segmentPath, segmentIndex, fileNames.size(), archiveHorizon);
+                } catch (IOException | IllegalValueException e) {
+                    return e;
+                }
+            });
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        for (Future<Object> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            Object result;
+            try {
+                result = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading " + directoryPath, e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+
+            if (result instanceof IOException) {
+                throw (IOException) result;
+            } else if (result instanceof IllegalValueException) {
+                throw (IllegalValueException) result;
+            }
+            segments.add((Segment) result);
+        }
+        return segments;
+    }
+
+    /**
+     * Reads the segment file at {@code segmentPath}, which is segment {@code segmentIndex} of {@code segmentCount}.
+     * The bookings of the persons are left to be decoded later if {@code archiveHorizon} is not null, as in
+     * {@link BinaryAddressBookFormat#readPersons(ByteBuffer, LocalDateTime)}.
+     *
+     * @throws IllegalValueException if the file is not a segment of a supported version, or holds a person that does
+     *     not belong to the segment, or if there were any data constraints violated.
+     */
+    static Segment readSegment(Path segmentPath, int segmentIndex, int segmentCount, LocalDateTime archiveHorizon)
+            throws IOException, IllegalValueException {
+        String segmentName = segmentPath.getFileName().toString();
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segmentPath));
+        try {
+            if (data.remaining() < Integer.BYTES || data.getInt() != SEGMENT_MAGIC_NUMBER) {
+                throw corrupt(segmentName, "not a segment file");
+            }
+            int version = data.getInt();
+            if (version != SEGMENT_VERSION) {
+                throw new IllegalValueException(String.format(JsonAdaptedShardManifest.MESSAGE_UNSUPPORTED_VERSION,
+                        version));
+            }
+            int personCount = data.getInt();
+            if (personCount < 0 || personCount > data.remaining() / Long.BYTES) {
+                throw corrupt(segmentName, "invalid person count " + personCount);
+            }
+            long[] sequences = new long[personCount];
+            for (int i = 0; i < personCount; i++) {
+                sequences[i] = data.getLong();
+                if (i > 0 && sequences[i] <= sequences[i - 1]) {
+                    throw corrupt(segmentName, "sequence numbers out of order");
+                }
+            }
+
+            List<Person> persons = BinaryAddressBookFormat.readPersons(data, archiveHorizon);
+            if (persons.size() != personCount) {
+                throw corrupt(segmentName, "expected " + personCount + " persons but found " + persons.size());
+            }
+            for (Person person : persons) {
+                if (getSegmentIndex(person, segmentCount) != segmentIndex) {
+                    throw corrupt(segmentName, person.getName() + " does not belong to this segment");
+                }
+            }
+            return new Segment(sequences, persons);
+        } catch (BufferUnderflowException e) {
+            throw corrupt(segmentName, "unexpected end of data");
+        }
+    }
+
+    /**
+     * Adds the persons of {@code segments} to {@code persons} in the order of their sequence numbers, and returns
+     * their sequence numbers in the same order.
+     *
+     * @throws IllegalValueException if two persons have the same sequence number.
+     */
+    private static long[] merge(List<Segment> segments, List<Person> persons) throws IllegalValueException {
+        List<Person> unordered = new ArrayList<>();
+        List<long[]> keys = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (int i = 0; i < segment.persons.size(); i++) {
+                keys.add(new long[] {segment.sequences[i], unordered.size()});
+                unordered.add(segment.persons.get(i));
+            }
+        }
+        keys.sort((first, second) -> Long.compare(first[0], second[0]));
+
+        long[] sequences = new long[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            sequences[i] = keys.get(i)[0];
+            if (i > 0 && sequences[i] == sequences[i - 1]) {
+                throw new IllegalValueException(String.format(JsonAdaptedShardManifest.MESSAGE_INVALID_MANIFEST,
+                        "two persons have sequence number " + sequences[i]));
+            }
+            persons.add(unordered.get((int) keys.get(i)[1]));
+        }
+        return sequences;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        long[] sequences = null;
+        if (directoryPath.equals(persistedDirectoryPath)
+                && Files.exists(directoryPath.resolve(MANIFEST_FILE_NAME))) {
+            sequences = updateSequences(persistedPersons, persistedSequences, persons);
+        }
+
+        if (sequences == null) {
+            sequences = new long[persons.size()];
+            for (int i = 0; i < sequences.length; i++) {
+                sequences[i] = i * SEQUENCE_GAP;
+            }
+            Set<Integer> allSegments = new TreeSet<>();
+            for (int i = 0; i < segmentCount; i++) {
+                allSegments.add(i);
+            }
+            writeSegments(directoryPath, persons, sequences, allSegments,
+                    new ArrayList<>(Collections.nCopies(segmentCount, null)), readGeneration(directoryPath));
+        } else {
+            Set<Integer> changedSegments = findChangedSegments(persistedPersons, persistedSequences, persons,
+                    sequences, persistedManifest.getSegments().size());
+            if (!changedSegments.isEmpty()) {
+                writeSegments(directoryPath, persons, sequences, changedSegments,
+                        new ArrayList<>(persistedManifest.getSegments()), persistedManifest.getGeneration());
+            }
+        }
+
+        persistedDirectoryPath = directoryPath;
+        persistedPersons = persons;
+        persistedSequences = sequences;
+    }
+
+    /**
+     * Writes the segments numbered {@code changedSegments} of {@code persons} under a new generation, then replaces
+     * the manifest with one naming them in place of the matching {@code segmentFileNames}, and finally deletes the
+     * segment files no longer named by the manifest.
+     */
+    private void writeSegments(Path directoryPath, List<Person> persons, long[] sequences,
+            Set<Integer> changedSegments, List<String> segmentFileNames, long previousGeneration) throws IOException {
+        int segmentCount = segmentFileNames.size();
+        List<List<Integer>> members = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            members.add(changedSegments.contains(i) ? new ArrayList<>() : null);
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            List<Integer> segment = members.get(getSegmentIndex(persons.get(i), segmentCount));
+            if (segment != null) {
+                segment.add(i);
+            }
+        }
+
+        long generation = previousGeneration + 1;
+        for (int segmentIndex : changedSegments) {
+            String fileName = "segment-" + segmentIndex + "-" + generation + BinaryAddressBookStorage.FILE_EXTENSION;
+            List<Integer> indices = members.get(segmentIndex);
+            AtomicFileWriter.write(directoryPath.resolve(fileName), out -> {
+                ByteBuffer header = ByteBuffer.allocate(3 * Integer.BYTES + indices.size() * Long.BYTES);
+                header.putInt(SEGMENT_MAGIC_NUMBER);
+                header.putInt(SEGMENT_VERSION);
+                header.putInt(indices.size());
+                List<Person> segmentPersons = new ArrayList<>(indices.size());
+                for (int index : indices) {
+                    header.putLong(sequences[index]);
+                    segmentPersons.add(persons.get(index));
+                }
+                out.write(header.array());
+                BinaryAddressBookFormat.write(segmentPersons, out);
+            });
+            segmentFileNames.set(segmentIndex, fileName);
+        }
+
+        JsonAdaptedShardManifest manifest = new JsonAdaptedShardManifest(generation, segmentFileNames);
+        byte[] manifestBytes = JsonUtil.toJsonString(manifest).getBytes(StandardCharsets.UTF_8);
+        AtomicFileWriter.write(directoryPath.resolve(MANIFEST_FILE_NAME), out -> out.write(manifestBytes));
+        persistedManifest = manifest;
+
+        deleteUnusedSegments(directoryPath, new HashSet<>(segmentFileNames));
+    }
+
+    /**
+     * Returns the generation of the manifest in {@code directoryPath}, or 0 if there is no readable manifest.
+     * Segments written after it take a later generation so they never overwrite the files it names.
+     */
+    private static long readGeneration(Path directoryPath) {
+        try {
+            return JsonUtil.readJsonFile(directoryPath.resolve(MANIFEST_FILE_NAME), JsonAdaptedShardManifest.class)
+                    .map(JsonAdaptedShardManifest::getGeneration).orElse(0L);
+        } catch (DataLoadingException e) {
+            logger.warning("Manifest of " + directoryPath + " could not be read, so it is replaced: " + e);
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the segment files in {@code directoryPath} that are not in {@code usedFileNames}, such as the files
+     * replaced by the last save or left behind by a save that failed. Files that cannot be deleted are logged.
+     */
+    private static void deleteUnusedSegments(Path directoryPath, Set<String> usedFileNames) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isSegmentFileName(fileName) && !usedFileNames.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Unused segments in " + directoryPath + " could not be deleted: " + e);
+        }
+    }
+
+    /**
+     * Returns the segment of {@code segmentCount} segments that {@code person} is kept in.
+     */
+    static int getSegmentIndex(Person person, int segmentCount) {
+        return Math.floorMod(person.getName().hashCode(), segmentCount);
+    }
+
+    /**
+     * Returns the sequence numbers of {@code newPersons}, keeping the sequence number of every person in
+     * {@code oldPersons} that is still in the list and in the same order relative to the other persons kept.
+     * Persons that were added or moved take sequence numbers between those of their neighbours, reusing the numbers
+     * of removed persons where possible. Returns null if there are no free sequence numbers left where needed, in
+     * which case all the persons must be numbered afresh.
+     *
+     * @param oldSequences the sequence numbers of {@code oldPersons}, in increasing order.
+     */
+    static long[] updateSequences(List<Person> oldPersons, long[] oldSequences, List<Person> newPersons) {
+        int start = getCommonPrefixLength(oldPersons, newPersons);
+        int oldEnd = oldPersons.size();
+        int newEnd = newPersons.size();
+        while (oldEnd > start && newEnd > start && oldPersons.get(oldEnd - 1).equals(newPersons.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        long[] sequences = new long[newPersons.size()];
+        System.arraycopy(oldSequences, 0, sequences, 0, start);
+        System.arraycopy(oldSequences, oldEnd, sequences, newEnd, newPersons.size() - newEnd);
+
+        Map<Person, Integer> oldIndices = new IdentityHashMap<>();
+        for (int i = start; i < oldEnd; i++) {
+            oldIndices.put(oldPersons.get(i), i);
+        }
+
+        // persons in between are either kept, in increasing order of their old index, or take a new sequence number
+        int lastKeptIndex = start - 1;
+        int runStart = start;
+        for (int i = start; i <= newEnd; i++) {
+            Integer oldIndex = i < newEnd ? oldIndices.get(newPersons.get(i)) : null;
+            boolean isKept = oldIndex != null && oldIndex > lastKeptIndex;
+            if (i < newEnd && !isKept) {
+                continue;
+            }
+
+            int nextKeptIndex = isKept ? oldIndex : oldEnd;
+            boolean isNumbered = numberRun(sequences, runStart, i, oldSequences, lastKeptIndex, nextKeptIndex);
+            if (!isNumbered) {
+                return null;
+            }
+            if (isKept) {
+                sequences[i] = oldSequences[oldIndex];
+                lastKeptIndex = oldIndex;
+            }
+            runStart = i + 1;
+        }
+        return sequences;
+    }
+
+    /**
+     * Gives the persons at {@code from} to {@code to} (exclusive) sequence numbers between those of the person before
+     * them and the person after them, if any. The old persons between {@code oldFrom} and {@code oldTo} (both
+     * exclusive) are the ones removed from that position, and their sequence numbers are reused if there are enough.
+     * Returns false if there are not enough free sequence numbers.
+     */
+    private static boolean numberRun(long[] sequences, int from, int to, long[] oldSequences, int oldFrom, int oldTo) {
+        int count = to - from;
+        if (count == 0) {
+            return true;
+        }
+        if (oldTo - oldFrom - 1 >= count) {
+            System.arraycopy(oldSequences, oldFrom + 1, sequences, from, count);
+            return true;
+        }
+
+        boolean hasLower = from > 0;
+        boolean hasUpper = to < sequences.length;
+        long lower = hasLower ? sequences[from - 1] : 0;
+        long upper = hasUpper ? oldSequences[oldTo] : 0;
+        if (hasLower && hasUpper) {
+            long step = (upper - lower) / (count + 1);
+            if (upper - lower <= count || step <= 0) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                sequences[from + i] = lower + step * (i + 1);
+            }
+        } else if (hasLower) {
+            if (lower > Long.MAX_VALUE - (count + 1) * SEQUENCE_GAP) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                sequences[from + i] = lower + SEQUENCE_GAP * (i + 1);
+            }
+        } else if (hasUpper) {
+            if (upper < Long.MIN_VALUE + (count + 1) * SEQUENCE_GAP) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                sequences[from + i] = upper - SEQUENCE_GAP * (count - i);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                sequences[from + i] = i * SEQUENCE_GAP;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the segments of {@code segmentCount} segments whose content differs between the old and the new
+     * persons, given the sequence numbers of both in increasing order.
+     */
+    static Set<Integer> findChangedSegments(List<Person> oldPersons, long[] oldSequences, List<Person> newPersons,
+            long[] newSequences, int segmentCount) {
+        Set<Integer> changedSegments = new TreeSet<>();
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (oldIndex < oldPersons.size() || newIndex < newPersons.size()) {
+            boolean hasOld = oldIndex < oldPersons.size();
+            boolean hasNew = newIndex < newPersons.size();
+            if (hasOld && hasNew && oldSequences[oldIndex] == newSequences[newIndex]) {
+                Person oldPerson = oldPersons.get(oldIndex++);
+                Person newPerson = newPersons.get(newIndex++);
+                if (!oldPerson.equals(newPerson)) {
+                    changedSegments.add(getSegmentIndex(oldPerson, segmentCount));
+                    changedSegments.add(getSegmentIndex(newPerson, segmentCount));
+                }
+            } else if (!hasNew || hasOld && oldSequences[oldIndex] < newSequences[newIndex]) {
+                changedSegments.add(getSegmentIndex(oldPersons.get(oldIndex++), segmentCount));
+            } else {
+                changedSegments.add(getSegmentIndex(newPersons.get(newIndex++), segmentCount));
+            }
+        }
+        return changedSegments;
+    }
+
+    private static int getCommonPrefixLength(List<Person> first, List<Person> second) {
+        int length = 0;
+        while (length < first.size() && length < second.size() && first.get(length).equals(second.get(length))) {
+            length++;
+        }
+        return length;
+    }
+
+    private static IllegalValueException corrupt(String segmentName, String reason) {
+        return new IllegalValueException(String.format(MESSAGE_CORRUPT_SEGMENT, segmentName, reason));
+    }
+
+    /**
+     * The persons of one segment and their sequence numbers, in increasing order.
+     */
+    static class Segment {
+        private final long[] sequences;
+        private final List<Person> persons;
+
+        Segment(long[] sequences, List<Person> persons) {
+            this.sequences = Arrays.copyOf(sequences, sequences.length);
+            this.persons = persons;
+        }
+    }
+}
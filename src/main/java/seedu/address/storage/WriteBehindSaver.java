@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveSettings;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the address book to an {@code AddressBookStorage} on a background thread, at the times chosen by a
+ * {@code SaveSettings}.
+ * Each submitted address book is copied, so it may be changed as soon as it has been submitted. A copy that has not
+ * been written yet is replaced by the next one submitted, so a burst of changes is written to the file only once.
+ * Writes never run concurrently and are made in the order the copies were submitted.
+ * A background write that fails is retried after a delay that doubles with each failure in a row, up to a limit, so
+ * the pending copy is written once the problem is resolved even if no further command is run.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final AddressBookStorage storage;
+    private final SaveSettings saveSettings;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService executor;
+    private final long initialRetryDelayMillis;
+    // Held while a copy is taken and written, so that an older copy is never written after a newer one
+    private final Object writeLock = new Object();
+
+    private ReadOnlyAddressBook pendingAddressBook;
+    private int pendingCommandCount;
+    private Future<?> scheduledWrite;
+    private boolean isRetryScheduled;
+    private long retryDelayMillis;
+    private int writeCount;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} as chosen by {@code saveSettings}.
+     * Background writes that fail are reported to {@code failureHandler} on the background thread; the address book
+     * of a failed write stays pending and is written again by the next write or by a retry, whichever comes first.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, SaveSettings saveSettings,
+            Consumer<IOException> failureHandler) {
+        this(storage, saveSettings, failureHandler, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} as above, that first retries a failed background write after
+     * {@code initialRetryDelayMillis}.
+     */
+    WriteBehindSaver(AddressBookStorage storage, SaveSettings saveSettings, Consumer<IOException> failureHandler,
+            long initialRetryDelayMillis) {
+        requireAllNonNull(storage, saveSettings, failureHandler);
+        this.storage = storage;
+        this.saveSettings = saveSettings;
+        this.failureHandler = failureHandler;
+        this.initialRetryDelayMillis = initialRetryDelayMillis;
+        this.retryDelayMillis = initialRetryDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits a copy of {@code addressBook} to be written, after a command that changed it.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook) {
+        pendingAddressBook = copyOf(addressBook);
+        pendingCommandCount++;
+
+        switch (saveSettings.getMode()) {
+        case DEBOUNCE:
+            cancelScheduledWrite();
+            scheduledWrite = executor.schedule(this::writeInBackground, saveSettings.getDebounceMillis(),
+                    TimeUnit.MILLISECONDS);
+            break;
+        case EVERY_N_COMMANDS:
+            if (pendingCommandCount >= saveSettings.getCommandsPerSave()) {
+                scheduleWrite();
+            }
+            break;
+        default:
+            scheduleWrite();
+            break;
+        }
+    }
+
+    /**
+     * Writes the pending address book, if any, on the calling thread, and waits for any write in progress first.
+     *
+     * @throws IOException if the write fails, including by an unchecked exception, which is given as the cause.
+     *     The address book stays pending.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            cancelScheduledWrite();
+        }
+        write();
+    }
+
+    /**
+     * Writes the pending address book, if any, and stops the background thread.
+     *
+     * @throws IOException if the write fails. The background thread is stopped regardless.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns true if an address book has been submitted but not written yet.
+     */
+    public synchronized boolean hasPendingChanges() {
+        return pendingAddressBook != null;
+    }
+
+    /**
+     * Returns the number of address books written so far.
+     */
+    public synchronized int getWriteCount() {
+        return writeCount;
+    }
+
+    private void scheduleWrite() {
+        // A write that has not started yet will pick up the latest address book, so it need not be scheduled again,
+        // unless it is a delayed retry
+        if (scheduledWrite == null || isRetryScheduled) {
+            cancelScheduledWrite();
+            scheduledWrite = executor.submit(this::writeInBackground);
+        }
+    }
+
+    private void cancelScheduledWrite() {
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+            scheduledWrite = null;
+        }
+        isRetryScheduled = false;
+    }
+
+    private void writeInBackground() {
+        try {
+            write();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            scheduleRetry();
+            failureHandler.accept(e);
+        }
+    }
+
+    private synchronized void scheduleRetry() {
+        if (pendingAddressBook == null || scheduledWrite != null || executor.isShutdown()) {
+            return;
+        }
+        logger.info("Retrying the save in " + retryDelayMillis + " ms");
+        scheduledWrite = executor.schedule(this::writeInBackground, retryDelayMillis, TimeUnit.MILLISECONDS);
+        isRetryScheduled = true;
+        retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    private void write() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook = takePendingAddressBook();
+            if (addressBook == null) {
+                return;
+            }
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                restorePendingAddressBook(addressBook);
+                throw e;
+            } catch (RuntimeException e) {
+                restorePendingAddressBook(addressBook);
+                throw new IOException(e);
+            }
+            synchronized (this) {
+                writeCount++;
+                retryDelayMillis = initialRetryDelayMillis;
+            }
+        }
+    }
+
+    private synchronized ReadOnlyAddressBook takePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook;
+        pendingAddressBook = null;
+        pendingCommandCount = 0;
+        scheduledWrite = null;
+        isRetryScheduled = false;
+        return addressBook;
+    }
+
+    private synchronized void restorePendingAddressBook(ReadOnlyAddressBook addressBook) {
+        // A newer address book submitted since takes its place
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code addressBook}. Persons are immutable, so only the list is copied.
+     */
+    private static ReadOnlyAddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        return () -> persons;
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,8 +19,11 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.person.DisplayedBookings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.InvalidBookingDataException;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -26,6 +31,7 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final Logger logger = LogsCenter.getLogger(PersonCard.class);
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -84,9 +90,10 @@ public class PersonCard extends UiPart<Region> {
     private TableColumn<BookingRow, String> colDesc;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person} and index to display,
+     * with bookings after {@code now} shown as upcoming.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, LocalDateTime now) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -103,7 +110,7 @@ public class PersonCard extends UiPart<Region> {
 
         // Populate booking table (if present in FXML)
         if (bookingTable != null) {
-            setupBookingTable(person);
+            setupBookingTable(person, now);
         } else {
             // Fallback to legacy label-based rendering
             person.getBookings().stream()
@@ -131,11 +138,10 @@ public class PersonCard extends UiPart<Region> {
     }
 
     /**
-     * Sets up the booking table with proper sorting.
-     * Bookings are reordered at each render: future bookings first (ascending),
+     * Sets up the booking table in display order: bookings after {@code now} first (ascending),
      * then past bookings (ascending). Past bookings are greyed out.
      */
-    private void setupBookingTable(Person person) {
+    private void setupBookingTable(Person person, LocalDateTime now) {
         // Define column mappings
         colBookingId.setCellValueFactory(new PropertyValueFactory<>("id"));
         colDate.setCellValueFactory(new PropertyValueFactory<>("date"));
@@ -167,39 +173,26 @@ public class PersonCard extends UiPart<Region> {
         DateTimeFormatter dateFmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         DateTimeFormatter timeFmt = DateTimeFormatter.ofPattern("HH:mm");
 
-        // Reorder bookings based on CURRENT datetime (fetched at each app start/render)
-        // Future bookings appear first (in chronological order)
-        // Past bookings appear after (also in chronological order)
-        // Past bookings are greyed out in the UI
-        Comparator<Booking> bookingComparator = (b1, b2) -> {
-            boolean b1IsFuture = Booking.isFutureDateTime(b1.getDateTime());
-            boolean b2IsFuture = Booking.isFutureDateTime(b2.getDateTime());
-
-            if (b1IsFuture && b2IsFuture) {
-                // Both future: sort ascending
-                return b1.getDateTime().compareTo(b2.getDateTime());
-            } else if (!b1IsFuture && !b2IsFuture) {
-                // Both past: sort ascending
-                return b1.getDateTime().compareTo(b2.getDateTime());
-            } else {
-                // One future, one past: future comes first
-                return b1IsFuture ? -1 : 1;
-            }
-        };
-
         // Display ID: Sequential numbering (1, 2, 3...) for user convenience
         // Note: This is different from the internal booking ID stored in JSON
         // The delete command uses this display ID to reference bookings
-        final int[] counter = {1};
-        person.getBookings().stream()
-                .sorted(bookingComparator)
-                .forEach(b -> rows.add(new BookingRow(
-                        String.valueOf(counter[0]++),
+        try {
+            DisplayedBookings displayedBookings = person.getDisplayedBookings(now);
+            for (int i = 0; i < displayedBookings.size(); i++) {
+                Booking b = displayedBookings.get(i);
+                rows.add(new BookingRow(
+                        String.valueOf(i + 1),
                         b.getDateTime().format(dateFmt),
                         b.getDateTime().format(timeFmt),
                         b.getClientName(),
                         b.getDescription(),
-                        !Booking.isFutureDateTime(b.getDateTime()))));
+                        displayedBookings.isPast(i)));
+            }
+        } catch (InvalidBookingDataException e) {
+            // Older bookings are only checked once shown, so the card is still shown, without its bookings
+            logger.warning(e.getMessage());
+            bookingTable.setPlaceholder(new Label(e.getMessage()));
+        }
 
         bookingTable.setItems(rows);
         bookingTable.setFixedCellSize(-1);
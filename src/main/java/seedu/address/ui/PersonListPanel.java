@@ -1,5 +1,10 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -13,18 +18,31 @@ import seedu.address.model.person.Person;
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
 
+    // The time bookings are shown as past or upcoming at, shared with the commands that number them
+    private final Supplier<LocalDateTime> bookingDisplayTime;
+
     @FXML
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, showing bookings as past or upcoming
+     * at the time given by {@code bookingDisplayTime}.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, Supplier<LocalDateTime> bookingDisplayTime) {
         super(FXML);
+        requireNonNull(bookingDisplayTime);
+        this.bookingDisplayTime = bookingDisplayTime;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
+    /**
+     * Shows the persons again, with their bookings as past or upcoming at the current booking display time.
+     */
+    public void refresh() {
+        personListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
@@ -37,7 +55,7 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                setGraphic(new PersonCard(person, getIndex() + 1, bookingDisplayTime.get()).getRoot());
             }
         }
     }
@@ -0,0 +1,35 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.SaveSettings.Mode;
+
+public class SaveSettingsTest {
+    @Test
+    public void constructor_invalidValues_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SaveSettings(Mode.DEBOUNCE, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SaveSettings(Mode.EVERY_N_COMMANDS, 0, 0));
+        assertThrows(NullPointerException.class, () -> new SaveSettings(null, 0, 1));
+    }
+
+    @Test
+    public void isWriteBehind() {
+        assertFalse(new SaveSettings().isWriteBehind());
+        assertTrue(new SaveSettings(Mode.DEBOUNCE, 100, 1).isWriteBehind());
+        assertTrue(new SaveSettings(Mode.EVERY_N_COMMANDS, 0, 5).isWriteBehind());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SaveSettings saveSettings = new SaveSettings();
+        String expected = SaveSettings.class.getCanonicalName() + "{mode=" + saveSettings.getMode()
+                + ", debounceMillis=" + saveSettings.getDebounceMillis() + ", commandsPerSave="
+                + saveSettings.getCommandsPerSave() + "}";
+        assertEquals(expected, saveSettings.toString());
+    }
+}
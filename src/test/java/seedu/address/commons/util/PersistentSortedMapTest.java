@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSortedMapTest {
+
+    private final PersistentSortedMap<Integer, String> empty = PersistentSortedMap.empty();
+
+    @Test
+    public void put_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> empty.put(null, "value"));
+    }
+
+    @Test
+    public void put_doesNotModifyOriginal() {
+        PersistentSortedMap<Integer, String> one = empty.put(1, "one");
+        PersistentSortedMap<Integer, String> two = one.put(2, "two");
+        PersistentSortedMap<Integer, String> replaced = two.put(1, "uno");
+
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of("one"), one.values());
+        assertEquals(List.of("one", "two"), two.values());
+        assertEquals(List.of("uno", "two"), replaced.values());
+        assertEquals(2, replaced.size());
+    }
+
+    @Test
+    public void remove_doesNotModifyOriginal() {
+        PersistentSortedMap<Integer, String> map = empty.put(2, "two").put(1, "one").put(3, "three");
+
+        assertEquals(List.of("one", "three"), map.remove(2).values());
+        assertEquals(List.of("one", "two", "three"), map.values());
+        assertSame(map, map.remove(4));
+    }
+
+    @Test
+    public void putAndRemove_manyKeys_matchesTreeMap() {
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentSortedMap<Integer, String> map = empty;
+        for (int i = 0; i < 500; i++) {
+            int key = (i * 37) % 211;
+            expected.put(key, "v" + i);
+            map = map.put(key, "v" + i);
+        }
+        for (int key = 0; key < 211; key += 3) {
+            expected.remove(key);
+            map = map.remove(key);
+        }
+
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.get(50), map.get(50));
+        assertNull(map.get(51));
+        assertEquals(new ArrayList<>(expected.subMap(20, 80).values()), map.valuesBetween(20, 80));
+        assertEquals(PersistentSortedMap.copyOf(expected), map);
+        assertEquals(PersistentSortedMap.copyOf(expected).hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void valuesBetween() {
+        PersistentSortedMap<Integer, String> map = empty.put(1, "one").put(2, "two").put(3, "three");
+
+        // from inclusive, to exclusive
+        assertEquals(List.of("one", "two"), map.valuesBetween(1, 3));
+        assertEquals(List.of(), map.valuesBetween(3, 3));
+        assertEquals(List.of(), map.valuesBetween(3, 1));
+    }
+
+    @Test
+    public void containsKeyBetween() {
+        PersistentSortedMap<Integer, String> map = empty.put(10, "a").put(20, "b").put(30, "c").put(40, "d");
+
+        // from inclusive, to exclusive
+        assertTrue(map.containsKeyBetween(20, 21));
+        assertTrue(map.containsKeyBetween(11, 31));
+        assertFalse(map.containsKeyBetween(11, 20));
+        assertFalse(map.containsKeyBetween(41, 99));
+        assertFalse(map.containsKeyBetween(30, 30));
+        assertFalse(empty.containsKeyBetween(0, 99));
+    }
+
+    @Test
+    public void positionalLookups() {
+        PersistentSortedMap<Integer, String> map = empty.put(20, "b").put(10, "a").put(30, "c");
+
+        assertEquals(List.of("a", "b", "c"), List.of(map.valueAt(0), map.valueAt(1), map.valueAt(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.valueAt(3));
+        assertEquals(0, map.countAtOrBefore(5));
+        assertEquals(2, map.countAtOrBefore(20));
+        assertEquals(3, map.countAtOrBefore(99));
+        assertEquals(Integer.valueOf(30), map.lastKey());
+        assertNull(empty.lastKey());
+    }
+
+    @Test
+    public void equals() {
+        PersistentSortedMap<Integer, String> map = empty.put(1, "one").put(2, "two");
+
+        assertTrue(map.equals(map));
+        assertTrue(map.equals(empty.put(2, "two").put(1, "one")));
+        assertFalse(map.equals(null));
+        assertFalse(map.equals(empty.put(1, "one")));
+        assertFalse(map.equals(empty.put(1, "one").put(2, "deux")));
+        assertEquals("{1=one, 2=two}", map.toString());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakValuePoolTest {
+
+    private final WeakValuePool<String, StringBuilder> pool = new WeakValuePool<>();
+
+    @Test
+    public void computeIfAbsent_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.computeIfAbsent(null, StringBuilder::new));
+    }
+
+    @Test
+    public void computeIfAbsent_equalKeys_returnsSharedValue() {
+        StringBuilder first = pool.computeIfAbsent("key", StringBuilder::new);
+        StringBuilder second = pool.computeIfAbsent(new String("key"), StringBuilder::new);
+        StringBuilder other = pool.computeIfAbsent("other", StringBuilder::new);
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void computeIfAbsent_factoryThrows_nothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> pool.computeIfAbsent("bad", key -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(0, pool.size());
+    }
+}
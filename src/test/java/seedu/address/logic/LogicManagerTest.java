@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
@@ -10,7 +12,12 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +34,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -82,6 +90,67 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unchangedAddressBook_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = (LogicManager) logic;
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(1, logicManager.getSkippedSaveCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(1, logicManager.getSkippedSaveCount());
+
+        Files.delete(addressBookPath);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_saveFailed_retriedByNextCommand() throws Exception {
+        AddressBookStorage failingOnce = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        LogicManager logicManager = new LogicManager(model, new StorageManager(failingOnce,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertThrows(CommandException.class, () -> logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY));
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logicManager.getSkippedSaveCount());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_anyCommand_setsBookingDisplayTime() throws Exception {
+        Instant commandTime = Instant.parse("2025-03-01T09:00:00Z");
+        LogicManager logicManager = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))),
+                Clock.fixed(commandTime, ZoneOffset.UTC));
+        assertEquals(LocalDateTime.of(2025, 3, 1, 9, 0), logicManager.getBookingDisplayTime());
+
+        model.setBookingDisplayTime(LocalDateTime.of(2020, 1, 1, 0, 0));
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(LocalDateTime.of(2025, 3, 1, 9, 0), logicManager.getBookingDisplayTime());
+
+        // failed commands may have changed what is shown too
+        model.setBookingDisplayTime(LocalDateTime.of(2020, 1, 1, 0, 0));
+        assertThrows(CommandException.class, () -> logicManager.execute("delete n/NonexistentPerson"));
+        assertEquals(LocalDateTime.of(2025, 3, 1, 9, 0), model.getBookingDisplayTime());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -66,6 +66,25 @@ public class AddCommandIntegrationTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_duplicatePersonNotShown_addsTagsToExistingPerson() {
+        Person personInList = model.getAddressBook().getPersonList().get(0);
+        model.updateFilteredPersonList(person -> !person.isSamePerson(personInList));
+        Person personWithNewTags = new PersonBuilder().withName(personInList.getName().fullName)
+                .withPhone(null).withEmail(null).withTags("newTag").build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> !person.isSamePerson(personInList));
+        java.util.Set<seedu.address.model.tag.Tag> mergedTags = new java.util.LinkedHashSet<>(personInList.getTags());
+        mergedTags.addAll(personWithNewTags.getTags());
+        Person updatedPerson = personInList.withTags(mergedTags);
+        expectedModel.setPerson(personInList, updatedPerson);
+
+        assertCommandSuccess(new AddCommand(personWithNewTags), model,
+                String.format(AddCommand.MESSAGE_TAGS_ADDED, Messages.format(updatedPerson)),
+                expectedModel);
+    }
+
     @Test
     public void execute_duplicatePersonNoTags_throwsCommandException() {
         Person personInList = model.getAddressBook().getPersonList().get(0);
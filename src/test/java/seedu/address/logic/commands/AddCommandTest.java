@@ -8,8 +8,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,9 +24,11 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.FindResultCache;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -303,6 +310,66 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Set<Person> getPersonsWithBookingsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithTagContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getTagCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countBookingsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithNameContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int estimatePersonsWithNameContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LocalDateTime getBookingDisplayTime() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBookingDisplayTime(LocalDateTime bookingDisplayTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getPerson(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FindResultCache getFindResultCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInFilteredPersonList(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -336,6 +403,11 @@ public class AddCommandTest {
             return javafx.collections.FXCollections.observableArrayList(person);
         }
 
+        @Override
+        public Optional<Person> getPerson(Name name) {
+            return this.person.getName().equals(name) ? Optional.of(this.person) : Optional.empty();
+        }
+
         public Person getPerson() {
             return updatedPerson != null ? updatedPerson : person;
         }
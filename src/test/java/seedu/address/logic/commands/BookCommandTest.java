@@ -13,6 +13,9 @@ import static seedu.address.testutil.TypicalPersons.FIONA;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +23,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.FindResultCache;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -331,6 +335,11 @@ public class BookCommandTest {
             return FXCollections.observableArrayList(personsAdded);
         }
 
+        @Override
+        public Optional<Person> getPerson(Name name) {
+            return new AddressBook(getAddressBook()).getPerson(name);
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             AddressBook addressBook = new AddressBook();
@@ -459,5 +468,65 @@ public class BookCommandTest {
         public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Set<Person> getPersonsWithBookingsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithTagContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getTagCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countBookingsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithNameContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int estimatePersonsWithNameContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LocalDateTime getBookingDisplayTime() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBookingDisplayTime(LocalDateTime bookingDisplayTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getPerson(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FindResultCache getFindResultCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInFilteredPersonList(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
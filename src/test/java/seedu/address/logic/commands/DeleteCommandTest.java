@@ -80,6 +80,18 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    // partial name matches only consider persons in the filtered list
+    public void execute_partialNameFilteredList_matchesShownPersonsOnly() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person shownPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        assertCommandFailure(new DeleteCommand(new Name("Meier"), Optional.empty()), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_NOT_FOUND, "Meier"));
+        assertCommandFailure(new DeleteCommand(new Name("Pauline"), Optional.empty()), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_PARTIAL_FOUND, "Pauline", shownPerson.getName()));
+    }
+
     // Tests for deleting tags
     @Test
     // delete all requested tags when all exist
@@ -343,6 +355,21 @@ public class DeleteCommandTest {
                 "EXPECTED: Remaining booking should be past (but bug causes it to be future)");
     }
 
+    @Test
+    public void execute_deleteBooking_usesDisplayOrderAtBookingDisplayTime() throws CommandException {
+        Person target = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Booking earlier = new Booking("mr tan", LocalDateTime.of(2020, 1, 15, 10, 0), "earlier");
+        Booking later = new Booking("mr lim", LocalDateTime.of(2020, 3, 15, 10, 0), "later");
+        model.setPerson(target, target.withBooking(earlier).withBooking(later));
+
+        // at the display time only the later booking is upcoming, so it is shown first
+        model.setBookingDisplayTime(LocalDateTime.of(2020, 2, 1, 0, 0));
+        new DeleteCommand(target.getName(), 1).execute(model);
+
+        Person after = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(List.of(earlier), after.getBookings());
+    }
+
     @Test
     public void execute_deleteBooking_negativeID() throws CommandException {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
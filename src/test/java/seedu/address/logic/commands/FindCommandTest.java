@@ -1,9 +1,11 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ABHIJAY;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -11,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +26,14 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.ClientContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Integration tests for {@code FindCommand} with new OR semantics and wildcard
@@ -53,6 +64,17 @@ public class FindCommandTest {
         assertTrue(model.getFilteredPersonList().contains(ALICE));
     }
 
+    @Test
+    public void execute_bookingAfterFind_bookedPersonStillListed() throws Exception {
+        new FindCommand(preparePredicate(Map.of("name", List.of("Alice")))).execute(model);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        new BookCommand(ALICE.getName(), "Client", LocalDateTime.of(2030, 1, 1, 10, 0), "Consult").execute(model);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(ALICE.getName(), model.getFilteredPersonList().get(0).getName());
+        assertTrue(model.getFilteredPersonList().get(0).hasBookings());
+    }
+
     @Test
     public void execute_singleTag_returnsMatchingPersons() {
         Map<String, List<String>> criteria = new HashMap<>();
@@ -83,6 +105,33 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_dateRange_returnsMatchingPersons() {
+        Map<String, List<String>> criteria = new HashMap<>();
+        criteria.put("date", List.of("2026-10-01..2026-10-20"));
+        ClientContainsKeywordsPredicate predicate = preparePredicate(criteria);
+
+        FindCommand command = new FindCommand(predicate);
+
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = "Searching for contacts with:\n  Booking date: 2026-10-01..2026-10-20\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_dateRangeWithoutBookings_noPersonFound() {
+        Map<String, List<String>> criteria = new HashMap<>();
+        criteria.put("date", List.of("2026-10-21..2026-12-31"));
+        ClientContainsKeywordsPredicate predicate = preparePredicate(criteria);
+
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = "Searching for contacts with:\n  Booking date: 2026-10-21..2026-12-31\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        assertCommandSuccess(new FindCommand(predicate), model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_multipleFields() {
         // Suppose we want to filter by name "Alice" and tag "friend"
@@ -168,4 +217,106 @@ public class FindCommandTest {
         assertTrue(str.contains("ClientContainsKeywordsPredicate"));
     }
 
+    @Test
+    public void execute_query_returnsMatchingPersons() {
+        Query query = new AndQuery(List.of(new FieldQuery(Field.TAG, "friends"),
+                new NotQuery(new FieldQuery(Field.NAME, "meier"))));
+        FindCommand command = new FindCommand(query, false);
+
+        expectedModel.updateFilteredPersonList(query);
+        String expectedMessage = "Searching for contacts matching: t/friends AND NOT n/meier\n"
+                + String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_bookingAfterQuery_bookedPersonStillListed() throws Exception {
+        new FindCommand(new FieldQuery(Field.NAME, "Alice"), false).execute(model);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        new BookCommand(ALICE.getName(), "Client", LocalDateTime.of(2030, 1, 1, 10, 0), "Consult").execute(model);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(ALICE.getName(), model.getFilteredPersonList().get(0).getName());
+        assertTrue(model.getFilteredPersonList().get(0).hasBookings());
+    }
+
+    @Test
+    public void execute_explainQuery_showsPlanAndTiming() {
+        Query query = new OrQuery(List.of(new FieldQuery(Field.DATE, "2026-10-20"),
+                new FieldQuery(Field.TAG, "family")));
+        QueryPlanner planner = new QueryPlanner(model);
+        String expectedPlan = planner.explain(planner.plan(query));
+
+        String[] lines = new FindCommand(query, true).execute(model).getFeedbackToUser().split("\n");
+
+        assertEquals("Searching for contacts matching: d/2026-10-20 OR t/family", lines[0]);
+        assertEquals(expectedPlan, String.join("\n", Arrays.copyOfRange(lines, 1, lines.length - 3)));
+        assertTrue(expectedPlan.startsWith("Plan: index lookup"));
+        assertTrue(lines[lines.length - 3].matches("Took \\d+\\.\\d{3} ms"));
+        assertEquals(String.format(FindCommand.MESSAGE_CACHE_STATISTICS, 0, 1), lines[lines.length - 2]);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), lines[lines.length - 1]);
+        assertEquals(Arrays.asList(CARL, FIONA, ABHIJAY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals_query() {
+        Query query = new FieldQuery(Field.TAG, "friends");
+        FindCommand command = new FindCommand(query, false);
+
+        assertTrue(command.equals(new FindCommand(new FieldQuery(Field.TAG, "friends"), false)));
+        assertFalse(command.equals(new FindCommand(query, true)));
+        assertFalse(command.equals(new FindCommand(new FieldQuery(Field.TAG, "family"), false)));
+    }
+
+    @Test
+    public void execute_repeatedSearch_answeredFromPatchedCache() {
+        FindCommand command = new FindCommand(preparePredicate(Map.of("tag", List.of("friends"))));
+        command.execute(model);
+        assertEquals(1, model.getFindResultCache().getMissCount());
+
+        Person friendlyCarl = new PersonBuilder(CARL).withTags("friends").build();
+        model.setPerson(CARL, friendlyCarl);
+        model.deletePerson(ALICE);
+
+        // equivalent criteria hit the cached result, patched with the changes
+        new FindCommand(preparePredicate(Map.of("tag", List.of("FRIENDS", "friends")))).execute(model);
+        assertEquals(1, model.getFindResultCache().getHitCount());
+        assertEquals(Arrays.asList(BENSON, friendlyCarl, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_bookingAfterCachedSearch_bookedPersonStillListed() throws Exception {
+        new FindCommand(preparePredicate(Map.of("name", List.of("Alice")))).execute(model);
+        new FindCommand(preparePredicate(Map.of("name", List.of("alice")))).execute(model);
+        assertEquals(1, model.getFindResultCache().getHitCount());
+
+        new BookCommand(ALICE.getName(), "Client", LocalDateTime.of(2030, 1, 1, 10, 0), "Consult").execute(model);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertTrue(model.getFilteredPersonList().get(0).hasBookings());
+    }
+
+    @Test
+    public void execute_bookingAfterCachedQuery_bookedPersonStillListed() throws Exception {
+        new FindCommand(new FieldQuery(Field.NAME, "Alice"), false).execute(model);
+        new FindCommand(new FieldQuery(Field.NAME, "alice"), false).execute(model);
+        assertEquals(1, model.getFindResultCache().getHitCount());
+
+        new BookCommand(ALICE.getName(), "Client", LocalDateTime.of(2030, 1, 1, 10, 0), "Consult").execute(model);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertTrue(model.getFilteredPersonList().get(0).hasBookings());
+    }
+
+    @Test
+    public void execute_repeatedQuery_answeredFromCache() {
+        Query query = new FieldQuery(Field.TAG, "friends");
+        new FindCommand(query, false).execute(model);
+
+        String[] lines = new FindCommand(new FieldQuery(Field.TAG, "Friends"), true).execute(model)
+                .getFeedbackToUser().split("\n");
+
+        assertEquals(String.format(FindCommand.MESSAGE_CACHED_PLAN, 3), lines[1]);
+        assertEquals(String.format(FindCommand.MESSAGE_CACHE_STATISTICS, 1, 1), lines[3]);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
 }
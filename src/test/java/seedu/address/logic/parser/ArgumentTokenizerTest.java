@@ -3,8 +3,12 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +140,34 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartingAnotherPrefix_longestPrefixRecognized() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "SomePreambleString -tt dashTt value -t dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTt, "dashTt value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
+    @Test
+    public void tokenize_largePastedInput_linearTime() {
+        // quadratic tokenizing takes tens of seconds on this input
+        int argumentCount = 400_000;
+        StringBuilder argsString = new StringBuilder("SomePreambleString");
+        for (int i = 0; i < argumentCount; i++) {
+            argsString.append(i % 2 == 0 ? " -t value" : " p/ value").append(i);
+        }
+
+        assertTimeout(Duration.ofSeconds(5), () -> {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT, hatQ);
+            List<String> dashTValues = argMultimap.getAllValues(dashT);
+            assertEquals(argumentCount / 2, dashTValues.size());
+            assertEquals("value0", dashTValues.get(0));
+            assertEquals("value" + (argumentCount - 1), argMultimap.getValue(pSlash).get());
+        });
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -44,6 +44,22 @@ class FindCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse(userInput));
     }
 
+    @Test
+    // date range accepted as a single date criterion
+    void parse_dateRange_success() {
+        Map<String, List<String>> criteria = Map.of("date", List.of("2025-01-01..2025-01-31"));
+        assertParseSuccess(parser, " d/2025-01-01..2025-01-31",
+                new FindCommand(new ClientContainsKeywordsPredicate(criteria)));
+    }
+
+    @Test
+    // date ranges with invalid bounds or an end before the start rejected
+    void parse_invalidDateRange_parseFailure() {
+        assertThrows(ParseException.class, () -> parser.parse(" d/2025-01-31..2025-01-01"));
+        assertThrows(ParseException.class, () -> parser.parse(" d/2025-01-01..2025-02-30"));
+        assertThrows(ParseException.class, () -> parser.parse(" d/2025-01-01.."));
+    }
+
     @Test
     // missing any valid prefix rejected
     void parse_missingPrefix_throwsParseException() {
@@ -0,0 +1,110 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.FieldQuery;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+
+public class FindQueryParserTest {
+
+    private final FindQueryParser parser = new FindQueryParser();
+
+    @Test
+    public void parse_singleTerm_success() {
+        assertParseSuccess(parser, " t/vip ", new FindCommand(new FieldQuery(Field.TAG, "vip"), false));
+        assertParseSuccess(parser, "c/", new FindCommand(new FieldQuery(Field.CLIENT, ""), false));
+    }
+
+    @Test
+    public void parse_operators_notBindsTightestAndOrLoosest() {
+        Query expected = new OrQuery(List.of(
+                new FieldQuery(Field.NAME, "alice"),
+                new AndQuery(List.of(
+                        new FieldQuery(Field.TAG, "vip"),
+                        new NotQuery(new FieldQuery(Field.CLIENT, "tan"))))));
+        assertParseSuccess(parser, "n/alice OR t/vip AND NOT c/tan", new FindCommand(expected, false));
+    }
+
+    @Test
+    public void parse_parentheses_groupOperands() {
+        Query expected = new AndQuery(List.of(
+                new OrQuery(List.of(new FieldQuery(Field.NAME, "alice"), new FieldQuery(Field.TAG, "vip"))),
+                new NotQuery(new NotQuery(new FieldQuery(Field.PHONE, "9123")))));
+        assertParseSuccess(parser, "(n/alice OR t/vip)AND NOT NOT(p/9123)", new FindCommand(expected, false));
+    }
+
+    @Test
+    public void parse_valueWithSpacesAndLowerCaseOperators_keptInValue() {
+        Query expected = new AndQuery(List.of(
+                new FieldQuery(Field.NAME, "Alice and   Bob"),
+                new FieldQuery(Field.EMAIL, "example.com")));
+        assertParseSuccess(parser, "n/Alice and   Bob AND e/example.com", new FindCommand(expected, false));
+    }
+
+    @Test
+    public void parse_dateRange_success() {
+        Query expected = new OrQuery(List.of(
+                new FieldQuery(Field.DATE, "2025-01-01..2025-01-31"), new FieldQuery(Field.DATE, "2025-03-01")));
+        assertParseSuccess(parser, "d/2025-01-01..2025-01-31 OR d/2025-03-01", new FindCommand(expected, false));
+    }
+
+    @Test
+    public void parse_explain_setsExplainFlag() {
+        assertParseSuccess(parser, "EXPLAIN t/vip", new FindCommand(new FieldQuery(Field.TAG, "vip"), true));
+        assertParseSuccess(parser, "EXPLAIN(t/vip)", new FindCommand(new FieldQuery(Field.TAG, "vip"), true));
+    }
+
+    @Test
+    public void parse_queryToString_parsesToSameQuery() {
+        Query query = new AndQuery(List.of(
+                new OrQuery(List.of(new FieldQuery(Field.NAME, "alice tan"), new FieldQuery(Field.TAG, "vip"))),
+                new NotQuery(new AndQuery(List.of(
+                        new FieldQuery(Field.CLIENT, "bob"), new FieldQuery(Field.DATE, "2025-03-01"))))));
+        assertParseSuccess(parser, query.toString(), new FindCommand(query, false));
+    }
+
+    @Test
+    public void parse_emptyQuery_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, "EXPLAIN", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "t/vip AND", invalidQuery(FindQueryParser.MESSAGE_EXPECTED_TERM, "end of query"));
+        assertParseFailure(parser, "x/vip", invalidQuery(FindQueryParser.MESSAGE_EXPECTED_TERM, "x/vip"));
+        assertParseFailure(parser, "AND t/vip", invalidQuery(FindQueryParser.MESSAGE_EXPECTED_TERM, "AND"));
+        assertParseFailure(parser, "t/vip t/gold", invalidQuery(FindQueryParser.MESSAGE_EXPECTED_OPERATOR, "t/gold"));
+        assertParseFailure(parser, "t/vip)", invalidQuery(FindQueryParser.MESSAGE_EXPECTED_OPERATOR, ")"));
+        assertParseFailure(parser, "(t/vip OR n/bob", invalidQuery(FindQueryParser.MESSAGE_UNCLOSED_PARENTHESIS));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, "t/vip AND d/2025-13-01", FindCommandParser.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "d/2025-01-31..2025-01-01", FindCommandParser.MESSAGE_INVALID_DATE);
+    }
+
+    @Test
+    public void parse_fromFindCommandParser_parsedAsQuery() {
+        Query expected = new AndQuery(List.of(new FieldQuery(Field.TAG, "vip"), new FieldQuery(Field.NAME, "bob")));
+        assertParseSuccess(new FindCommandParser(), " q/EXPLAIN t/vip AND n/bob", new FindCommand(expected, true));
+        assertParseSuccess(new FindCommandParser(), " q/t/vip AND n/bob", new FindCommand(expected, false));
+    }
+
+    private static String invalidQuery(String detail, Object... args) {
+        return String.format(FindQueryParser.MESSAGE_INVALID_QUERY, String.format(detail, args));
+    }
+}
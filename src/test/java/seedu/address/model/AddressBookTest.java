@@ -9,15 +9,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -78,6 +82,41 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithBookingsBetween_followsPersonMutations() {
+        LocalDateTime datetime = LocalDateTime.of(2025, 1, 10, 9, 0);
+        LocalDateTime start = datetime.minusDays(1);
+        LocalDateTime end = datetime.plusDays(1);
+        Person bookedAlice = ALICE.withBooking(new Booking("Mr Lim", datetime, "consult"));
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getPersonsWithBookingsBetween(start, end).isEmpty());
+
+        addressBook.setPerson(ALICE, bookedAlice);
+        assertEquals(Set.of(bookedAlice), addressBook.getPersonsWithBookingsBetween(start, end));
+
+        // an equal person removes the instance held by the index
+        addressBook.removePerson(new PersonBuilder(bookedAlice).build());
+        assertTrue(addressBook.getPersonsWithBookingsBetween(start, end).isEmpty());
+
+        addressBook.setPersons(List.of(bookedAlice));
+        assertEquals(Set.of(bookedAlice), addressBook.getPersonsWithBookingsBetween(start, end));
+    }
+
+    @Test
+    public void getTagCounts_followsPersonMutations() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Map.of("friends", 1), addressBook.getTagCounts());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Map.of(VALID_TAG_HUSBAND, 1), addressBook.getTagCounts());
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsWithTagContaining("HUS"));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getTagCounts().isEmpty());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
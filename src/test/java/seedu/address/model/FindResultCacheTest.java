@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FindResultCacheTest {
+
+    private static final Predicate<Person> FRIENDS = person -> person.getLowerCaseTagNames().contains("friends");
+
+    private final FindResultCache cache = new FindResultCache();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FindResultCache(0));
+    }
+
+    @Test
+    public void get_cachedKey_hitReturnsCopy() {
+        assertEquals(Optional.empty(), cache.get("friends", 1));
+        cache.put("friends", FRIENDS, setOf(ALICE, BENSON), 1);
+
+        Set<Person> matches = cache.get("friends", 1).get();
+        assertEquals(setOf(ALICE, BENSON), matches);
+        matches.clear();
+        assertEquals(setOf(ALICE, BENSON), cache.get("friends", 1).get());
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_otherVersion_resultsDiscarded() {
+        cache.put("friends", FRIENDS, setOf(ALICE, BENSON), 1);
+
+        assertEquals(Optional.empty(), cache.get("friends", 2));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedEvicted() {
+        FindResultCache smallCache = new FindResultCache(2);
+        smallCache.put("a", FRIENDS, setOf(ALICE), 1);
+        smallCache.put("b", FRIENDS, setOf(BENSON), 1);
+        smallCache.get("a", 1);
+        smallCache.put("c", FRIENDS, setOf(DANIEL), 1);
+
+        assertEquals(2, smallCache.size());
+        assertTrue(smallCache.get("a", 1).isPresent());
+        assertEquals(Optional.empty(), smallCache.get("b", 1));
+        assertTrue(smallCache.get("c", 1).isPresent());
+    }
+
+    @Test
+    public void changes_atCachedVersion_resultsPatched() {
+        cache.put("friends", FRIENDS, setOf(ALICE, BENSON), 1);
+        cache.put("all", person -> true, setOf(ALICE, BENSON), 1);
+
+        cache.add(DANIEL, 1, 2);
+        cache.add(CARL, 2, 3);
+        assertEquals(setOf(ALICE, BENSON, DANIEL), cache.get("friends", 3).get());
+        assertEquals(setOf(ALICE, BENSON, DANIEL, CARL), cache.get("all", 3).get());
+
+        Person friendlyCarl = new PersonBuilder(CARL).withTags("friends").build();
+        cache.replace(CARL, friendlyCarl, 3, 4);
+        cache.remove(ALICE, 4, 6);
+        assertEquals(setOf(BENSON, DANIEL, friendlyCarl), cache.get("friends", 6).get());
+        assertEquals(setOf(BENSON, DANIEL, friendlyCarl), cache.get("all", 6).get());
+
+        // an equal person that is not the cached instance is still removed
+        cache.remove(new PersonBuilder(BENSON).build(), 6, 7);
+        assertEquals(setOf(DANIEL, friendlyCarl), cache.get("friends", 7).get());
+    }
+
+    @Test
+    public void changes_atOtherVersion_resultsDiscarded() {
+        cache.put("friends", FRIENDS, setOf(ALICE, BENSON), 1);
+
+        cache.add(DANIEL, 2, 3);
+        assertEquals(0, cache.size());
+
+        cache.put("friends", FRIENDS, setOf(ALICE, BENSON, DANIEL), 3);
+        assertTrue(cache.get("friends", 3).isPresent());
+    }
+
+    private static Set<Person> setOf(Person... persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(List.of(persons));
+        return set;
+    }
+}
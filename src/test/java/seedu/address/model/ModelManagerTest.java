@@ -14,12 +14,16 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.ClientContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -91,6 +95,55 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPerson_followsChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Optional.of(ALICE), modelManager.getPerson(ALICE.getName()));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(Optional.empty(), modelManager.getPerson(ALICE.getName()));
+        assertEquals(Optional.of(renamedAlice), modelManager.getPerson(renamedAlice.getName()));
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Optional.empty(), modelManager.getPerson(BENSON.getName()));
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(Optional.empty(), modelManager.getPerson(renamedAlice.getName()));
+        assertEquals(Optional.of(BENSON), modelManager.getPerson(BENSON.getName()));
+    }
+
+    @Test
+    public void getFindResultCache_patchedByChanges() {
+        modelManager.addPerson(ALICE);
+        FindResultCache cache = modelManager.getFindResultCache();
+        cache.put("friends", person -> person.getLowerCaseTagNames().contains("friends"), Set.of(ALICE),
+                modelManager.getAddressBookModificationCount());
+
+        modelManager.addPerson(BENSON);
+        Person unfriendlyAlice = new PersonBuilder(ALICE).withTags().build();
+        modelManager.setPerson(ALICE, unfriendlyAlice);
+        assertEquals(Set.of(BENSON), cache.get("friends", modelManager.getAddressBookModificationCount()).get());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Set.of(), cache.get("friends", modelManager.getAddressBookModificationCount()).get());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void isInFilteredPersonList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertTrue(modelManager.isInFilteredPersonList(ALICE));
+
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertFalse(modelManager.isInFilteredPersonList(ALICE));
+        assertTrue(modelManager.isInFilteredPersonList(BENSON));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
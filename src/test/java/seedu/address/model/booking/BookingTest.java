@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
@@ -13,6 +15,25 @@ import org.junit.jupiter.api.Test;
 
 public class BookingTest {
 
+    @Test
+    public void constructor_clientNameWithWhitespace_normalized() {
+        LocalDateTime datetime = LocalDateTime.of(2030, 1, 1, 10, 0);
+        assertEquals("Mr Tan Lim", new Booking(" Mr\t\tTan \t Lim ", datetime, "First").getClientName());
+        assertEquals("Mr Tan", new Booking("Mr Tan", datetime, "First").getClientName());
+    }
+
+    @Test
+    public void constructor_equalClientNames_sharePooledCopy() {
+        String clientName = new String("Pooled Client");
+        Booking first = new Booking(clientName, LocalDateTime.of(2030, 1, 1, 10, 0), "First");
+        Booking second = new Booking("  Pooled   Client ", LocalDateTime.of(2030, 1, 2, 10, 0), "Second");
+
+        assertSame(first.getClientName(), second.getClientName());
+        // the pool keeps the name it was given as its key, so the shared name must be another instance to be
+        // reclaimable once no booking uses it
+        assertNotSame(clientName, first.getClientName());
+    }
+
     @Test
     public void parseDateTime_validDate_success() {
         // Valid date should parse successfully
@@ -0,0 +1,141 @@
+package seedu.address.model.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.BookingSource;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BookingTimeIndexTest {
+
+    private static final LocalDateTime JAN_1 = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final LocalDateTime JAN_15 = LocalDateTime.of(2025, 1, 15, 9, 0);
+    private static final LocalDateTime FEB_1 = LocalDateTime.of(2025, 2, 1, 9, 0);
+
+    private final BookingTimeIndex index = new BookingTimeIndex();
+
+    private final Person alice = new PersonBuilder(ALICE).withBookings(List.of(
+            new Booking("Mr Lim", JAN_1, "first"), new Booking("Mr Tan", FEB_1, "second"))).build();
+    private final Person benson = new PersonBuilder(BENSON).withBookings(List.of(
+            new Booking("Mr Lim", JAN_1, "first"), new Booking("Mr Ong", JAN_15, "second"))).build();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getPersonsWithBookingsBetween() {
+        index.add(alice);
+        index.add(benson);
+        assertEquals(4, index.size());
+
+        // start inclusive, end exclusive
+        assertEquals(Set.of(alice, benson), index.getPersonsWithBookingsBetween(JAN_1, JAN_15));
+        assertEquals(Set.of(benson), index.getPersonsWithBookingsBetween(JAN_15, FEB_1));
+        assertEquals(Set.of(alice, benson), index.getPersonsWithBookingsBetween(JAN_1, FEB_1.plusMinutes(1)));
+        assertEquals(3, index.countBookingsBetween(JAN_1, FEB_1));
+
+        // empty or inverted range -> no persons
+        assertTrue(index.getPersonsWithBookingsBetween(FEB_1.plusDays(1), FEB_1.plusDays(2)).isEmpty());
+        assertTrue(index.getPersonsWithBookingsBetween(FEB_1, JAN_1).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithBookingsBetween_archivedBookings_foundBeforeHorizon() {
+        List<Booking> bookings = List.of(new Booking(1, "Mr Lim", JAN_1, "first"),
+                new Booking(2, "Mr Tan", FEB_1, "second"));
+        Person archived = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getTags(),
+                new BookingSource() {
+                    @Override
+                    public int size() {
+                        return bookings.size();
+                    }
+
+                    @Override
+                    public List<Booking> decode(LocalDateTime from) {
+                        return bookings.stream().filter(booking -> from == null
+                                || !booking.getDateTime().isBefore(from)).collect(Collectors.toList());
+                    }
+                }, JAN_15);
+        index.add(archived);
+        index.add(benson);
+
+        // only the booking after the horizon is indexed
+        assertEquals(3, index.size());
+        assertEquals(Set.of(archived, benson), index.getPersonsWithBookingsBetween(JAN_1, JAN_15));
+        assertEquals(Set.of(archived, benson), index.getPersonsWithBookingsBetween(JAN_15, FEB_1.plusMinutes(1)));
+        assertEquals(3, index.countBookingsBetween(JAN_1, FEB_1));
+
+        index.remove(archived);
+        assertEquals(Set.of(benson), index.getPersonsWithBookingsBetween(JAN_1, JAN_15));
+    }
+
+    @Test
+    public void remove_person_removesOnlyTheirBookings() {
+        index.add(alice);
+        index.add(benson);
+        index.remove(alice);
+
+        assertEquals(2, index.size());
+        assertEquals(Set.of(benson), index.getPersonsWithBookingsBetween(JAN_1, FEB_1.plusMinutes(1)));
+    }
+
+    @Test
+    public void remove_equalPerson_keepsIndexedPerson() {
+        // persons are held by reference, so only the instance that was added removes it
+        index.add(alice);
+        index.remove(new PersonBuilder(alice).build());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void getPersonsWithBookingsBetween_rangeAfterHorizon_archiveNotDecoded() {
+        List<Booking> bookings = List.of(new Booking(1, "Mr Lim", JAN_1, "first"),
+                new Booking(2, "Mr Tan", FEB_1, "second"));
+        int[] fullDecodeCount = new int[1];
+        Person archived = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getTags(),
+                new BookingSource() {
+                    @Override
+                    public int size() {
+                        return bookings.size();
+                    }
+
+                    @Override
+                    public List<Booking> decode(LocalDateTime from) {
+                        if (from == null) {
+                            fullDecodeCount[0]++;
+                        }
+                        return bookings.stream().filter(booking -> from == null
+                                || !booking.getDateTime().isBefore(from)).collect(Collectors.toList());
+                    }
+                }, JAN_15);
+        index.add(archived);
+        index.add(benson);
+
+        assertEquals(Set.of(archived, benson), index.getPersonsWithBookingsBetween(JAN_15, FEB_1.plusMinutes(1)));
+        assertEquals(2, index.countBookingsBetween(JAN_15, FEB_1.plusMinutes(1)));
+        index.remove(archived);
+        assertEquals(2, index.size());
+        assertEquals(0, fullDecodeCount[0]);
+    }
+
+    @Test
+    public void setPersons_replacesContents() {
+        index.add(alice);
+        index.setPersons(List.of(benson));
+        assertEquals(2, index.size());
+        assertEquals(Set.of(benson), index.getPersonsWithBookingsBetween(JAN_1, FEB_1.plusMinutes(1)));
+    }
+}
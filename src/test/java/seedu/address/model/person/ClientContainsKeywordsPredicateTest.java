@@ -1,9 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -114,6 +119,33 @@ public class ClientContainsKeywordsPredicateTest {
         assertTrue(predicate.test(personWithBooking.build()));
     }
 
+    @Test
+    public void test_dateRangeMatching() {
+        PersonBuilder personWithBooking = new PersonBuilder().withBookings(Arrays.asList(new Booking(
+                "Test Client", LocalDateTime.of(2025, 10, 15, 23, 59), "desc")));
+
+        // range bounds are inclusive of whole days
+        assertTrue(new ClientContainsKeywordsPredicate(Map.of("date", List.of("2025-10-01..2025-10-15")))
+                .test(personWithBooking.build()));
+        assertTrue(new ClientContainsKeywordsPredicate(Map.of("date", List.of("2025-10-15..2025-10-31")))
+                .test(personWithBooking.build()));
+        assertFalse(new ClientContainsKeywordsPredicate(Map.of("date", List.of("2025-10-16..2025-10-31")))
+                .test(personWithBooking.build()));
+    }
+
+    @Test
+    public void test_partialDateAndRangeMatching() {
+        Person personWithBooking = new PersonBuilder().withBookings(Arrays.asList(new Booking(
+                "Test Client", LocalDateTime.of(2025, 10, 15, 10, 0), "desc"))).build();
+
+        // keywords that are not full dates are matched against the booking dates as text
+        assertTrue(new ClientContainsKeywordsPredicate(Map.of("date", List.of("2025-10"))).test(personWithBooking));
+        assertTrue(new ClientContainsKeywordsPredicate(Map.of("date", List.of("2024-01-01..2024-12-31", "-10-")))
+                .test(personWithBooking));
+        assertFalse(new ClientContainsKeywordsPredicate(Map.of("date", List.of("2024-01-01..2024-12-31", "2025-11")))
+                .test(personWithBooking));
+    }
+
     @Test
     public void test_emptyDateList_matchesOnlyPeopleWithBookings() {
         Map<String, List<String>> map = new HashMap<>();
@@ -185,4 +217,62 @@ public class ClientContainsKeywordsPredicateTest {
         assertTrue(str.contains("tag"));
         assertTrue(str.contains("friend"));
     }
+
+    @Test
+    public void getNormalizedCriteria_sameForEquivalentCriteria() {
+        ClientContainsKeywordsPredicate predicate = buildPredicate(Map.of(
+                "name", List.of("Bob", "alice", "ALICE"),
+                "tag", List.of(),
+                "date", List.of("2025-02-01", "2025-01-01")));
+        ClientContainsKeywordsPredicate equivalentPredicate = buildPredicate(Map.of(
+                "name", List.of("Alice", "bob"),
+                "tag", List.of(),
+                "date", List.of("2025-01-01", "2025-02-01")));
+
+        Map<String, List<String>> expected = Map.of(
+                "name", List.of("alice", "bob"),
+                "tag", List.of(),
+                "date", List.of("2025-01-01", "2025-02-01"));
+        assertEquals(expected, predicate.getNormalizedCriteria());
+        assertEquals(expected, equivalentPredicate.getNormalizedCriteria());
+    }
+
+    @Test
+    public void test_manyPersons_noAllocationPerPerson() {
+        // testing each person used to allocate over 2 KB, which a person matching nobody should not need
+        int personCount = 100_000;
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withTags("tag" + (i % 100))
+                    .withBookings(List.of(new Booking("Client", start.plusHours(i), "Consult"))).build());
+        }
+        ClientContainsKeywordsPredicate predicate = buildPredicate(Map.of(
+                "name", List.of("Person 99999"),
+                "tag", List.of("friend"),
+                "date", List.of("2000-01-01")));
+
+        assertTimeout(Duration.ofSeconds(5), () -> {
+            assertEquals(1, countMatches(predicate, persons));
+
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMxBean
+                    && threadMxBean.isThreadAllocatedMemoryEnabled()) {
+                long threadId = Thread.currentThread().getId();
+                long allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+                countMatches(predicate, persons);
+                long allocated = threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+                assertTrue(allocated < personCount, allocated + " bytes allocated");
+            }
+        });
+    }
+
+    private static int countMatches(ClientContainsKeywordsPredicate predicate, List<Person> persons) {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchedPersonsPredicateTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void test_unchangedAddressBook_answersFromMatches() {
+        Predicate<Person> unexpectedPredicate = person -> {
+            throw new AssertionError("The predicate should not be tested");
+        };
+        MatchedPersonsPredicate predicate = new MatchedPersonsPredicate(model, Set.of(ALICE), unexpectedPredicate,
+                person -> person.equals(BENSON));
+
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void test_changedAddressBook_testsUnmatchedPersons() {
+        MatchedPersonsPredicate predicate = new MatchedPersonsPredicate(model, Set.of(ALICE),
+                person -> person.getName().equals(ALICE.getName()));
+
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("vip").build();
+        model.setPerson(ALICE, taggedAlice);
+
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(taggedAlice));
+        assertFalse(predicate.test(CARL));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -34,6 +35,14 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(longNameWithSpecialChars));
     }
 
+    @Test
+    public void of_sameName_returnsSharedName() {
+        Name name = Name.of("Alice  Pauline");
+        assertSame(name, Name.of(new String("Alice  Pauline")));
+        assertEquals("Alice Pauline", name.fullName);
+        assertThrows(IllegalArgumentException.class, () -> Name.of(" "));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -11,8 +12,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.booking.Booking;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -33,6 +44,233 @@ public class PersonTest {
         assertThrows(IllegalArgumentException.class, () -> new PersonBuilder().withTags(tags).build());
     }
 
+    @Test
+    public void constructor_bookingsAtSameDateTime_throwsIllegalArgumentException() {
+        LocalDateTime datetime = LocalDateTime.of(2025, 1, 10, 9, 0);
+        List<Booking> bookings = List.of(new Booking("Mr Lim", datetime, "first"),
+                new Booking("Mr Tan", datetime, "second"));
+        assertThrows(IllegalArgumentException.class, () -> new PersonBuilder().withBookings(bookings).build());
+    }
+
+    @Test
+    public void getBookings_unorderedInput_returnsChronologicalOrder() {
+        Booking later = new Booking("Mr Lim", LocalDateTime.of(2025, 3, 1, 9, 0), "later");
+        Booking earlier = new Booking("Mr Tan", LocalDateTime.of(2025, 1, 1, 9, 0), "earlier");
+        Person person = new PersonBuilder().withBookings(List.of(later, earlier)).build();
+        assertEquals(List.of(earlier, later), person.getBookings());
+        assertEquals(person, new PersonBuilder().withBookings(List.of(earlier, later)).build());
+    }
+
+    @Test
+    public void getBookingAt() {
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "consult");
+        Person person = new PersonBuilder().withBookings(List.of(booking)).build();
+        assertEquals(booking, person.getBookingAt(LocalDateTime.of(2025, 1, 10, 9, 0)).get());
+        assertTrue(person.getBookingAt(LocalDateTime.of(2025, 1, 10, 9, 1)).isEmpty());
+    }
+
+    @Test
+    public void getBookingsBetween() {
+        Booking first = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 1, 9, 0), "first");
+        Booking second = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 15, 9, 0), "second");
+        Booking third = new Booking("Mr Lim", LocalDateTime.of(2025, 2, 1, 9, 0), "third");
+        Person person = new PersonBuilder().withBookings(List.of(third, first, second)).build();
+
+        // start inclusive, end exclusive
+        assertEquals(List.of(first, second), person.getBookingsBetween(
+                LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 2, 1, 9, 0)));
+
+        // empty and inverted ranges -> no bookings
+        assertTrue(person.getBookingsBetween(LocalDateTime.of(2025, 3, 1, 0, 0),
+                LocalDateTime.of(2025, 4, 1, 0, 0)).isEmpty());
+        assertTrue(person.getBookingsBetween(LocalDateTime.of(2025, 2, 1, 0, 0),
+                LocalDateTime.of(2025, 1, 1, 0, 0)).isEmpty());
+    }
+
+    @Test
+    public void withBooking_withoutBooking() {
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "consult");
+        Person booked = ALICE.withBooking(booking);
+
+        assertEquals(new PersonBuilder(ALICE).withBookings(List.of(booking)).build(), booked);
+        assertTrue(ALICE.getBookings().isEmpty());
+        assertEquals(ALICE, booked.withoutBooking(booking));
+
+        // conflicting booking -> throws
+        Booking conflicting = new Booking("Mr Tan", LocalDateTime.of(2025, 1, 10, 9, 0), "other");
+        assertThrows(IllegalArgumentException.class, () -> booked.withBooking(conflicting));
+
+        // booking not present -> throws
+        assertThrows(IllegalArgumentException.class, () -> booked.withoutBooking(conflicting));
+    }
+
+    @Test
+    public void lazyBookings_decodedOnlyAsFarBackAsNeeded() {
+        Booking archived = new Booking(1, "Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "archived");
+        Booking recent = new Booking(2, "Mr Lim", LocalDateTime.of(2025, 3, 10, 9, 0), "recent");
+        CountingBookingSource source = new CountingBookingSource(List.of(archived, recent));
+        Person person = new Person(new Name(VALID_NAME_BOB), null, null, Set.of(), source,
+                LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        // nothing decoded to load, count or copy the person
+        assertTrue(person.hasBookings());
+        Person renamed = person.withDetails(new Name("Bob Lee"), null, null, Set.of());
+        assertTrue(source.decodedFrom.isEmpty());
+
+        // bookings after the horizon -> only the recent bookings decoded
+        assertEquals(recent, person.getBookingAt(recent.getDateTime()).get());
+        assertEquals(List.of(recent), person.getBookingsBetween(LocalDateTime.of(2025, 3, 1, 0, 0),
+                LocalDateTime.of(2025, 4, 1, 0, 0)));
+        assertEquals(List.of(LocalDateTime.of(2025, 3, 1, 0, 0)), source.decodedFrom);
+
+        // bookings before the horizon -> all decoded, once
+        assertEquals(List.of(archived, recent), person.getBookings());
+        assertEquals(archived, person.getBookingAt(archived.getDateTime()).get());
+        assertEquals(Arrays.asList(LocalDateTime.of(2025, 3, 1, 0, 0), null), source.decodedFrom);
+
+        // same bookings as the eagerly built person
+        assertEquals(new PersonBuilder().withName(VALID_NAME_BOB).withPhone(null).withEmail(null)
+                .withTags().withBookings(List.of(archived, recent)).build(), person);
+        assertEquals(List.of(archived, recent), renamed.getBookings());
+    }
+
+    @Test
+    public void lazyBookings_withoutIds_idsAssignedOverAllBookings() {
+        Booking archived = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "archived");
+        Booking recent = new Booking("Mr Lim", LocalDateTime.of(2025, 3, 10, 9, 0), "recent");
+        Person person = new Person(new Name(VALID_NAME_BOB), null, null, Set.of(),
+                new CountingBookingSource(List.of(archived, recent)), LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        assertEquals(2, person.getBookingAt(recent.getDateTime()).get().getId());
+        assertEquals(1, person.getBookingById(1).get().getId());
+    }
+
+    @Test
+    public void withTags_keepsBookingsAndSharesUnchangedTags() {
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "consult");
+        Person booked = ALICE.withBooking(booking);
+        assertSame(ALICE.getTags(), booked.getTags());
+
+        Person retagged = booked.withTags(Set.of(new Tag(VALID_TAG_HUSBAND)));
+        assertEquals(new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).withBookings(List.of(booking)).build(),
+                retagged);
+
+        Person renamed = booked.withDetails(new Name(VALID_NAME_BOB), null, null, booked.getTags());
+        assertSame(booked.getTags(), renamed.getTags());
+        assertEquals(booked.getBookings(), renamed.getBookings());
+
+        // tag limit still applies
+        Set<Tag> tooManyTags = new HashSet<>();
+        for (int i = 0; i <= Person.MAX_TAGS; i++) {
+            tooManyTags.add(new Tag("tag" + i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> booked.withTags(tooManyTags));
+    }
+
+    @Test
+    public void derivedFields_matchPersonAfterCopies() {
+        Person person = new PersonBuilder().withName("Alice  PAULINE").withTags("Friends", "VIP").build();
+        assertEquals("alice pauline", person.getLowerCaseName());
+        assertEquals(Set.of("friends", "vip"), Set.copyOf(person.getLowerCaseTagNames()));
+
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "consult");
+        Person booked = person.withBooking(booking);
+        Person rebuilt = new PersonBuilder(person).withBookings(List.of(booking)).build();
+        assertEquals(rebuilt.hashCode(), booked.hashCode());
+        assertEquals(rebuilt, booked);
+        assertEquals(person.hashCode(), booked.withoutBooking(booking).hashCode());
+
+        Person retagged = booked.withTags(Set.of(new Tag("Husband")));
+        assertEquals(List.of("husband"), retagged.getLowerCaseTagNames());
+    }
+
+    @Test
+    public void bookingIds_assignedOnceAndKept() {
+        Booking first = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "first");
+        Booking second = new Booking("Mr Tan", LocalDateTime.of(2025, 1, 5, 9, 0), "second");
+        Booking third = new Booking("Mr Ong", LocalDateTime.of(2025, 1, 20, 9, 0), "third");
+        Person person = new PersonBuilder(ALICE).withBookings(List.of(first, second)).build();
+
+        // ids follow the order bookings were given in, not their datetimes
+        assertEquals(first, person.getBookingById(1).get());
+        assertEquals(second, person.getBookingById(2).get());
+
+        Person booked = person.withBooking(third);
+        assertEquals(3, booked.getBookingById(3).get().getId());
+
+        // removing a booking keeps the ids of the others
+        Person removed = booked.withoutBooking(1);
+        assertFalse(removed.getBookingById(1).isPresent());
+        assertEquals(third, removed.getBookingById(3).get());
+        assertThrows(IllegalArgumentException.class, () -> removed.withoutBooking(1));
+
+        // stored ids are kept and new bookings continue after the largest
+        Person reloaded = new PersonBuilder(ALICE).withBookings(List.of(third.withId(7), first)).build();
+        assertEquals(first, reloaded.getBookingById(8).get());
+    }
+
+    @Test
+    public void bookingIds_sharedIdsReassigned() {
+        Booking first = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "first");
+        Booking second = new Booking("Mr Tan", LocalDateTime.of(2025, 1, 5, 9, 0), "second");
+        Booking third = new Booking("Mr Ong", LocalDateTime.of(2025, 1, 20, 9, 0), "third");
+
+        // the latest booking keeps a shared id and the others continue after the largest
+        Person reloaded = new PersonBuilder(ALICE)
+                .withBookings(List.of(first.withId(2), second.withId(2), third.withId(2))).build();
+        assertEquals(third, reloaded.getBookingById(2).get());
+        assertEquals(second, reloaded.getBookingById(3).get());
+        assertEquals(first, reloaded.getBookingById(4).get());
+    }
+
+    @Test
+    public void withBooking_largestIdInUse_givenLowestFreeId() {
+        Booking first = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 10, 9, 0), "first");
+        Booking second = new Booking("Mr Tan", LocalDateTime.of(2025, 1, 5, 9, 0), "second");
+        Booking third = new Booking("Mr Ong", LocalDateTime.of(2025, 1, 20, 9, 0), "third");
+        Person person = new PersonBuilder(ALICE)
+                .withBookings(List.of(first.withId(Integer.MAX_VALUE), second.withId(1))).build();
+
+        assertEquals(third, person.withBooking(third).getBookingById(2).get());
+    }
+
+    @Test
+    public void getBookingAtDisplayIndex_futureBookingsFirst() {
+        Booking past = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 1, 9, 0), "past");
+        Booking now = new Booking("Mr Tan", LocalDateTime.of(2025, 2, 1, 9, 0), "now");
+        Booking soon = new Booking("Mr Ong", LocalDateTime.of(2025, 3, 1, 9, 0), "soon");
+        Booking later = new Booking("Mr Goh", LocalDateTime.of(2025, 4, 1, 9, 0), "later");
+        Person person = new PersonBuilder(ALICE).withBookings(List.of(later, past, soon, now)).build();
+        LocalDateTime currentTime = now.getDateTime();
+
+        assertEquals(soon, person.getBookingAtDisplayIndex(1, currentTime).get());
+        assertEquals(later, person.getBookingAtDisplayIndex(2, currentTime).get());
+        assertEquals(past, person.getBookingAtDisplayIndex(3, currentTime).get());
+        assertEquals(now, person.getBookingAtDisplayIndex(4, currentTime).get());
+        assertFalse(person.getBookingAtDisplayIndex(0, currentTime).isPresent());
+        assertFalse(person.getBookingAtDisplayIndex(5, currentTime).isPresent());
+    }
+
+    @Test
+    public void getDisplayedBookings_splitsAtNow() {
+        Booking past = new Booking("Mr Lim", LocalDateTime.of(2025, 1, 1, 9, 0), "past");
+        Booking now = new Booking("Mr Tan", LocalDateTime.of(2025, 2, 1, 9, 0), "now");
+        Booking soon = new Booking("Mr Ong", LocalDateTime.of(2025, 3, 1, 9, 0), "soon");
+        Person person = new PersonBuilder(ALICE).withBookings(List.of(soon, past, now)).build();
+
+        DisplayedBookings displayed = person.getDisplayedBookings(now.getDateTime());
+        assertEquals(List.of(soon, past, now), displayed);
+        assertEquals(1, displayed.getUpcomingCount());
+        assertFalse(displayed.isPast(0));
+        assertTrue(displayed.isPast(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> displayed.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> displayed.remove(0));
+
+        // all bookings are upcoming before the first and past after the last
+        assertEquals(List.of(past, now, soon), person.getDisplayedBookings(LocalDateTime.of(2024, 1, 1, 0, 0)));
+        assertEquals(0, person.getDisplayedBookings(soon.getDateTime()).getUpcomingCount());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -106,4 +344,28 @@ public class PersonTest {
                 + ", bookings=" + ALICE.getBookings() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    /**
+     * A {@code BookingSource} that records the start of every decode.
+     */
+    private static class CountingBookingSource implements BookingSource {
+        private final List<Booking> bookings;
+        private final List<LocalDateTime> decodedFrom = new ArrayList<>();
+
+        CountingBookingSource(List<Booking> bookings) {
+            this.bookings = bookings;
+        }
+
+        @Override
+        public int size() {
+            return bookings.size();
+        }
+
+        @Override
+        public List<Booking> decode(LocalDateTime from) {
+            decodedFrom.add(from);
+            return bookings.stream().filter(booking -> from == null || !booking.getDateTime().isBefore(from))
+                    .collect(Collectors.toList());
+        }
+    }
 }
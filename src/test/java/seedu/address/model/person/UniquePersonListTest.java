@@ -7,11 +7,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +131,49 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_keepsRemainingPersonsAddressable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getPerson_afterRemovingEarlierPerson_returnsPersonByName() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(ALICE.getName()));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +209,51 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsOriginalList() {
+        uniquePersonList.add(CARL);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_followsMutations() {
+        uniquePersonList.setPersons(List.of(DANIEL, ALICE, BENSON));
+
+        // trigram lookups keep list order and ignore case
+        assertEquals(List.of(DANIEL, BENSON), uniquePersonList.getPersonsWithNameContaining("MEIER"));
+        assertEquals(List.of(ALICE), uniquePersonList.getPersonsWithNameContaining("ce pau"));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithNameContaining("meiers"));
+
+        // queries shorter than a trigram are scanned
+        assertEquals(List.of(DANIEL, BENSON), uniquePersonList.getPersonsWithNameContaining("er"));
+        assertEquals(List.of(DANIEL, ALICE, BENSON), uniquePersonList.getPersonsWithNameContaining(""));
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        uniquePersonList.setPerson(BENSON, renamedBenson);
+        uniquePersonList.remove(DANIEL);
+        uniquePersonList.add(CARL);
+        assertEquals(List.of(), uniquePersonList.getPersonsWithNameContaining("meier"));
+        assertEquals(List.of(renamedBenson, CARL), uniquePersonList.getPersonsWithNameContaining("kurz"));
+    }
+
+    @Test
+    public void estimatePersonsWithNameContaining_boundsMatches() {
+        uniquePersonList.setPersons(List.of(DANIEL, ALICE, BENSON, CARL));
+
+        // bounded by the names containing the rarest trigram, without verifying them
+        assertEquals(2, uniquePersonList.estimatePersonsWithNameContaining("MEIER"));
+        assertEquals(1, uniquePersonList.estimatePersonsWithNameContaining("ce pau"));
+
+        // a trigram in no name rules out every name
+        assertEquals(0, uniquePersonList.estimatePersonsWithNameContaining("meiers"));
+
+        // queries shorter than a trigram are bounded by the list size
+        assertEquals(4, uniquePersonList.estimatePersonsWithNameContaining("er"));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
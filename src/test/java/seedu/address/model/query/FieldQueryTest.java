@@ -0,0 +1,86 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldQueryTest {
+
+    @Test
+    public void constructor_invalidDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FieldQuery.MESSAGE_INVALID_DATE, () ->
+                new FieldQuery(Field.DATE, "2025-13-01"));
+        assertThrows(IllegalArgumentException.class, FieldQuery.MESSAGE_INVALID_DATE, () ->
+                new FieldQuery(Field.DATE, "20"));
+    }
+
+    @Test
+    public void test_nameAndTag_containsIgnoringCase() {
+        assertTrue(new FieldQuery(Field.NAME, "PAUL").test(ALICE));
+        assertFalse(new FieldQuery(Field.NAME, "kurz").test(ALICE));
+        assertTrue(new FieldQuery(Field.TAG, "FRIEND").test(ALICE));
+        assertFalse(new FieldQuery(Field.TAG, "family").test(ALICE));
+    }
+
+    @Test
+    public void test_phoneAndEmail_containsIgnoringCase() {
+        assertTrue(new FieldQuery(Field.PHONE, "4351").test(ALICE));
+        assertFalse(new FieldQuery(Field.PHONE, "9999").test(ALICE));
+        assertTrue(new FieldQuery(Field.EMAIL, "ALICE@EXAMPLE").test(ALICE));
+        assertFalse(new FieldQuery(Field.EMAIL, "bob@").test(ALICE));
+
+        Person withoutPhoneOrEmail = new Person(ALICE.getName(), null, null, ALICE.getTags());
+        assertFalse(new FieldQuery(Field.PHONE, "").test(withoutPhoneOrEmail));
+        assertFalse(new FieldQuery(Field.EMAIL, "").test(withoutPhoneOrEmail));
+        assertTrue(new FieldQuery(Field.PHONE, "").test(ALICE));
+    }
+
+    @Test
+    public void test_clientAndDate_matchBookings() {
+        Person person = new PersonBuilder(ELLE).withBookings(List.of(
+                new Booking("Tan Ah Kow", LocalDateTime.of(2025, 3, 1, 9, 0), "Meeting"))).build();
+
+        assertTrue(new FieldQuery(Field.CLIENT, "ah kow").test(person));
+        assertFalse(new FieldQuery(Field.CLIENT, "lim").test(person));
+        assertTrue(new FieldQuery(Field.CLIENT, "").test(person));
+        assertFalse(new FieldQuery(Field.CLIENT, "").test(ELLE));
+
+        assertTrue(new FieldQuery(Field.DATE, "2025-03-01").test(person));
+        assertTrue(new FieldQuery(Field.DATE, "2025-02-01..2025-03-01").test(person));
+        assertFalse(new FieldQuery(Field.DATE, "2025-03-02").test(person));
+        assertTrue(new FieldQuery(Field.DATE, "").test(CARL));
+        assertFalse(new FieldQuery(Field.DATE, "").test(ELLE));
+    }
+
+    @Test
+    public void equals() {
+        FieldQuery query = new FieldQuery(Field.TAG, "vip");
+
+        assertEquals(query, new FieldQuery(Field.TAG, " vip "));
+        assertNotEquals(query, new FieldQuery(Field.NAME, "vip"));
+        assertNotEquals(query, new FieldQuery(Field.TAG, "VIP"));
+        assertNotEquals(query, null);
+        assertEquals(query.hashCode(), new FieldQuery(Field.TAG, "vip").hashCode());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("t/vip", new FieldQuery(Field.TAG, "vip").toString());
+        assertEquals("n/", new FieldQuery(Field.NAME, "").toString());
+    }
+}
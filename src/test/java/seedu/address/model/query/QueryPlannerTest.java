@@ -0,0 +1,147 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.FieldQuery.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final Query FAMILY = new FieldQuery(Field.TAG, "family");
+    private static final Query FRIENDS = new FieldQuery(Field.TAG, "friends");
+    private static final Query MEIER = new FieldQuery(Field.NAME, "meier");
+    private static final Query BOOKED = new FieldQuery(Field.DATE, "2026-10-20");
+    private static final Query EXAMPLE_EMAIL = new FieldQuery(Field.EMAIL, "example.com");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final QueryPlanner planner = new QueryPlanner(model);
+
+    @Test
+    public void plan_indexedTerms_estimatedFromIndexes() {
+        assertPlan(planner.plan(FAMILY), "tag index", 1);
+        assertPlan(planner.plan(FRIENDS), "tag index", 3);
+        assertPlan(planner.plan(MEIER), "name index", 2);
+        assertPlan(planner.plan(BOOKED), "time index", 2);
+    }
+
+    @Test
+    public void plan_unindexedTerms_scanned() {
+        assertScan(planner.plan(EXAMPLE_EMAIL));
+        assertScan(planner.plan(new FieldQuery(Field.PHONE, "9")));
+        assertScan(planner.plan(new FieldQuery(Field.CLIENT, "kurz")));
+        assertScan(planner.plan(new FieldQuery(Field.TAG, "")));
+        assertScan(planner.plan(new NotQuery(FAMILY)));
+    }
+
+    @Test
+    public void plan_and_narrowedByMostSelectiveIndexedOperand() {
+        QueryPlan plan = planner.plan(new AndQuery(List.of(EXAMPLE_EMAIL, FRIENDS, FAMILY)));
+
+        assertPlan(plan, "narrowed by t/family", 1);
+        assertEquals(3, plan.getOperandPlans().size());
+        assertTrue(planner.isLookupChosen(plan));
+        assertScan(planner.plan(new AndQuery(List.of(EXAMPLE_EMAIL, new NotQuery(FAMILY)))));
+    }
+
+    @Test
+    public void plan_or_indexedOnlyIfAllOperandsAre() {
+        assertPlan(planner.plan(new OrQuery(List.of(FAMILY, BOOKED))), "union", 3);
+        assertScan(planner.plan(new OrQuery(List.of(FAMILY, EXAMPLE_EMAIL))));
+
+        // The estimate never exceeds the number of persons
+        assertPlan(planner.plan(new OrQuery(List.of(FRIENDS, FRIENDS, FRIENDS))), "union", 8);
+    }
+
+    @Test
+    public void isLookupChosen_unselectiveIndex_scanChosen() {
+        assertTrue(planner.isLookupChosen(planner.plan(FRIENDS)));
+
+        // Two thirds of the persons are friends
+        Model friendlyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        for (int i = 0; i < 6; i++) {
+            friendlyModel.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withTags(i % 3 == 0 ? "family" : "friends").build());
+        }
+        QueryPlanner friendlyPlanner = new QueryPlanner(friendlyModel);
+        QueryPlan plan = friendlyPlanner.plan(FRIENDS);
+
+        assertTrue(plan.isIndexed());
+        assertFalse(friendlyPlanner.isLookupChosen(plan));
+        assertEquals(4, friendlyPlanner.findMatches(plan).size());
+    }
+
+    @Test
+    public void findMatches_sameMatchesAsTestingEveryPerson() {
+        List<Query> queries = List.of(
+                FRIENDS,
+                new AndQuery(List.of(FRIENDS, new NotQuery(MEIER))),
+                new OrQuery(List.of(FAMILY, BOOKED, MEIER)),
+                new OrQuery(List.of(FAMILY, EXAMPLE_EMAIL)),
+                new AndQuery(List.of(new OrQuery(List.of(FAMILY, BOOKED)), new FieldQuery(Field.NAME, "kurz"))),
+                new NotQuery(new OrQuery(List.of(FRIENDS, BOOKED))));
+
+        for (Query query : queries) {
+            Set<Person> matches = planner.findMatches(planner.plan(query));
+            for (Person person : model.getAddressBook().getPersonList()) {
+                assertEquals(query.test(person), matches.contains(person), query + " on " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void explain_showsChosenPlanAndEstimates() {
+        QueryPlan plan = planner.plan(new AndQuery(List.of(FRIENDS, new NotQuery(MEIER))));
+
+        assertEquals("Plan: index lookup of about 3 of 8 persons\n"
+                + "  AND: narrowed by t/friends (estimated 3)\n"
+                + "    t/friends: tag index (estimated 3)\n"
+                + "    NOT: scan (estimated 8)\n"
+                + "      n/meier: name index (estimated 2)", planner.explain(plan));
+        assertEquals("Plan: scan of all 8 persons\n"
+                + "  e/example.com: scan (estimated 8)", planner.explain(planner.plan(EXAMPLE_EMAIL)));
+    }
+
+    @Test
+    public void normalize_valuesInLowerCase() {
+        Query query = new AndQuery(List.of(new OrQuery(List.of(new FieldQuery(Field.NAME, "Alice Tan"),
+                new FieldQuery(Field.EMAIL, "Example.COM"))), new NotQuery(FAMILY)));
+        Query expected = new AndQuery(List.of(new OrQuery(List.of(new FieldQuery(Field.NAME, "alice tan"),
+                new FieldQuery(Field.EMAIL, "example.com"))), new NotQuery(FAMILY)));
+
+        assertEquals(expected, query.normalize());
+        assertSame(FAMILY, FAMILY.normalize());
+    }
+
+    @Test
+    public void toStringMethod_parenthesizesLooserOperators() {
+        Query query = new AndQuery(List.of(new OrQuery(List.of(FAMILY, BOOKED)),
+                new NotQuery(new AndQuery(List.of(MEIER, FRIENDS)))));
+        assertEquals("(t/family OR d/2026-10-20) AND NOT (n/meier AND t/friends)", query.toString());
+    }
+
+    private static void assertPlan(QueryPlan plan, String expectedAccess, int expectedEstimate) {
+        assertTrue(plan.isIndexed());
+        assertEquals(expectedAccess, plan.getAccess());
+        assertEquals(expectedEstimate, plan.getEstimate());
+    }
+
+    private static void assertScan(QueryPlan plan) {
+        assertFalse(plan.isIndexed());
+        assertEquals(QueryPlan.ACCESS_SCAN, plan.getAccess());
+        assertEquals(8, plan.getEstimate());
+    }
+}
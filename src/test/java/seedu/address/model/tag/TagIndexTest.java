@@ -0,0 +1,50 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getPersonsWithTagContaining() {
+        index.setPersons(List.of(ALICE, BENSON, CARL));
+
+        assertEquals(Set.of(BENSON), index.getPersonsWithTagContaining("money"));
+        assertEquals(Set.of(ALICE, BENSON), index.getPersonsWithTagContaining("END"));
+        assertTrue(index.getPersonsWithTagContaining("family").isEmpty());
+    }
+
+    @Test
+    public void getTagCounts_followsRemovals() {
+        Person mixedCase = new PersonBuilder(CARL).withTags("Friends", "friends").build();
+        index.setPersons(List.of(ALICE, BENSON, mixedCase));
+        assertEquals(Map.of("friends", 3, "owesmoney", 1), index.getTagCounts());
+
+        index.remove(BENSON);
+        index.remove(mixedCase);
+        assertEquals(Map.of("friends", 1), index.getTagCounts());
+
+        index.remove(ALICE);
+        assertTrue(index.getTagCounts().isEmpty());
+    }
+}
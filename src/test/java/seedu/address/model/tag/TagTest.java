@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -40,6 +42,17 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(longTagMixed));
     }
 
+    @Test
+    public void of_sameTagName_returnsSharedTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+
+        // invalid tag names are still rejected
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("no spaces"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("a".repeat(51)));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        JsonAddressBookStorage convertedStorage = new JsonAddressBookStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookConverter.convert(jsonStorage, binaryStorage));
+        assertTrue(AddressBookConverter.convert(binaryStorage, convertedStorage));
+        assertEquals(Files.readString(jsonStorage.getAddressBookFilePath()),
+                Files.readString(convertedStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convert_missingSource_targetUnchanged() throws Exception {
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertFalse(AddressBookConverter.convert(new JsonAddressBookStorage(testFolder.resolve("missing.json")),
+                binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertIfNewer() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        AddressBook addressBook = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(addressBook);
+
+        // no binary file yet
+        assertTrue(AddressBookConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(addressBook, binaryStorage.readAddressBook().get());
+
+        // binary file saved after the json file
+        addressBook.removePerson(ALICE);
+        binaryStorage.saveAddressBook(addressBook);
+        setLastModifiedTime(binaryStorage.getAddressBookFilePath(), 2000);
+        setLastModifiedTime(jsonStorage.getAddressBookFilePath(), 1000);
+        assertFalse(AddressBookConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertTrue(AddressBookConverter.convertIfNewer(binaryStorage, jsonStorage));
+        assertEquals(addressBook, jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertIfNewer_severalSources_newestConverted() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        ShardedAddressBookStorage shardedStorage =
+                new ShardedAddressBookStorage(testFolder.resolve("addressBook.shards"));
+        List<AddressBookStorage> sources = List.of(jsonStorage, binaryStorage);
+
+        // no data in any source
+        assertFalse(AddressBookConverter.convertIfNewer(sources, shardedStorage));
+        assertFalse(Files.exists(shardedStorage.getAddressBookFilePath()));
+
+        AddressBook addressBook = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        binaryStorage.saveAddressBook(addressBook);
+        setLastModifiedTime(jsonStorage.getAddressBookFilePath(), 1000);
+        setLastModifiedTime(binaryStorage.getAddressBookFilePath(), 2000);
+        assertTrue(AddressBookConverter.convertIfNewer(sources, shardedStorage));
+        assertEquals(addressBook, shardedStorage.readAddressBook().get());
+
+        // the sharded storage is now the newest
+        assertFalse(AddressBookConverter.convertIfNewer(sources, shardedStorage));
+    }
+
+    private static void setLastModifiedTime(Path filePath, long seconds) throws Exception {
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(seconds * 1000));
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.InvalidBookingDataException;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data", "BinaryAddressBookStorageTest",
+            "typicalPersonsAddressBook.bin");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("addressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Yuki Tanaka").withTags("friends", "VIP")
+                .withBookings(Arrays.asList(new Booking(7, "Carl Kurz", LocalDateTime.of(1969, 7, 20, 20, 17), "Moon"),
+                        new Booking(3, "Mr Tan", LocalDateTime.of(2030, 2, 28, 23, 59), "Café dinner")))
+                .build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        Person readPerson = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        assertEquals(LocalDateTime.of(1969, 7, 20, 20, 17), readPerson.getBookingById(7).get().getDateTime());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_memoryMapped_success() throws Exception {
+        // only files that are never written to are mapped, as a mapped file cannot be replaced on Windows
+        ReadOnlyAddressBook mapped = new BinaryAddressBookStorage(TYPICAL_PERSONS_FILE, true).readAddressBook().get();
+        assertEquals(getTypicalAddressBook().getPersonList(), mapped.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_lazyBookings_sameAsEager() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Booking archived = new Booking(7, "Carl Kurz", LocalDateTime.of(1969, 7, 20, 20, 17), "Moon");
+        Booking upcoming = new Booking(3, "Mr Tan", LocalDateTime.of(2130, 2, 28, 23, 59), "Café dinner");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Yuki Tanaka")
+                .withBookings(Arrays.asList(archived, upcoming)).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath, false, BookingLoadPolicy.lazy(30))
+                .readAddressBook().get();
+        Person readPerson = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        assertEquals(upcoming, readPerson.getBookingById(3).get());
+        assertEquals(archived, readPerson.getBookingAt(archived.getDateTime()).get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_lazyBookingsWithInvalidArchivedBooking_archiveCopiedUndecoded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Booking archived = new Booking(7, "Carl Kurz", LocalDateTime.of(1969, 7, 20, 20, 17), "Apollo11");
+        Booking upcoming = new Booking(8, "Mr Tan", LocalDateTime.of(2130, 2, 28, 23, 59), "Dinner");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Yuki Tanaka").withBookings(Arrays.asList(archived, upcoming))
+                .build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // blank out the description of the archived booking
+        byte[] data = Files.readAllBytes(filePath);
+        String content = new String(data, StandardCharsets.ISO_8859_1);
+        int descriptionStart = content.indexOf("Apollo11");
+        Arrays.fill(data, descriptionStart, descriptionStart + "Apollo11".length(), (byte) ' ');
+        Files.write(filePath, data);
+
+        // the archived booking is only checked when it is decoded
+        Person yuki = new BinaryAddressBookStorage(filePath, false, BookingLoadPolicy.lazy(30)).readAddressBook()
+                .get().getPersonList().get(0);
+        assertEquals(Arrays.asList(upcoming), yuki.getBookingsBetween(LocalDateTime.now(), LocalDateTime.MAX));
+
+        // saved after another person, so that the client names of Yuki are numbered differently in the dictionary
+        AddressBook saved = new AddressBook();
+        saved.addPerson(new PersonBuilder().withName("Amy Bee").withBookings(Arrays.asList(
+                new Booking(1, "Zed", LocalDateTime.of(2131, 1, 1, 10, 0), "Lunch"))).build());
+        saved.addPerson(yuki);
+        Path savedFilePath = testFolder.resolve("saved.bin");
+        new BinaryAddressBookStorage(savedFilePath).saveAddressBook(saved);
+        assertNotNull(yuki.getUndecodedBookings());
+
+        Person readBack = new BinaryAddressBookStorage(savedFilePath, false, BookingLoadPolicy.lazy(30))
+                .readAddressBook().get().getPersonList().get(1);
+        assertEquals(Arrays.asList(upcoming), readBack.getBookingsBetween(LocalDateTime.now(), LocalDateTime.MAX));
+        assertThrows(InvalidBookingDataException.class, readBack::getBookings);
+    }
+
+    @Test
+    public void save_repeatedTagsAndClients_smallerThanJson() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withTags("friends", "colleagues")
+                    .withBookings(Arrays.asList(new Booking("Alexander Hamilton", LocalDateTime.of(2030, 1, 1 + i % 28,
+                            9, 0), "Consultation"))).build());
+        }
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+        String binary = new String(Files.readAllBytes(binaryFilePath), "UTF-8");
+        assertEquals(binary.indexOf("Alexander Hamilton"), binary.lastIndexOf("Alexander Hamilton"));
+    }
+
+    @Test
+    public void read_invalidData_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // a json file
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // cut short
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void read_unsupportedVersionOrCorrupt_throwsIllegalValueException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(getTypicalAddressBook(), out);
+        byte[] bytes = out.toByteArray();
+
+        ByteBuffer newerVersion = ByteBuffer.wrap(bytes.clone());
+        newerVersion.putInt(Integer.BYTES, BinaryAddressBookFormat.VERSION + 1);
+        assertThrows(IllegalValueException.class, String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookFormat.VERSION + 1), () -> BinaryAddressBookFormat.read(newerVersion));
+
+        ByteBuffer hugePersonCount = ByteBuffer.wrap(bytes.clone());
+        hugePersonCount.putInt(2 * Integer.BYTES, Integer.MAX_VALUE);
+        assertThrows(IllegalValueException.class, () -> BinaryAddressBookFormat.read(hugePersonCount));
+
+        ByteBuffer trailingData = ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length + 1));
+        assertThrows(IllegalValueException.class, () -> BinaryAddressBookFormat.read(trailingData));
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndRead_changesAppendedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // first save writes the snapshot
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+
+        // each change appends one entry and leaves the snapshot alone
+        Booking booking = new Booking("Mr Tan", LocalDateTime.of(2030, 1, 1, 10, 0), "meeting");
+        addressBook.setPerson(BENSON, BENSON.withBooking(booking));
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Person renamedCarl = CARL.withDetails(new Name("Carl Kurz Jr"), CARL.getPhone(), CARL.getEmail(),
+                CARL.getTags());
+        addressBook.setPerson(CARL, renamedCarl);
+        storage.saveAddressBook(addressBook);
+        Person bensonWithBooking = addressBook.getPersonList().get(0);
+        addressBook.setPerson(bensonWithBooking, bensonWithBooking.withoutBooking(booking));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        List<String> journal = Files.readAllLines(journalFilePath);
+        assertEquals(6, journal.size());
+        assertTrue(journal.get(1).contains("\"op\":\"addBooking\""));
+        assertTrue(journal.get(5).contains("\"op\":\"removeBooking\""));
+
+        // a new storage replays the journal, keeping the order of the persons
+        AddressBook read = new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, read);
+        assertEquals(addressBook.getPersonList(), read.getPersonList());
+    }
+
+    @Test
+    public void save_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        // the journal is compacted once it holds more than its first entry
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, Files.size(journalFilePath));
+        storage.readAddressBook();
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void read_journalOfOtherSnapshotOrCutShort_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+
+        // an interrupted save leaves part of an entry at the end
+        Files.write(journalFilePath, "{\"op\":\"remove\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+
+        // the snapshot was rewritten without the journal being restarted
+        AddressBook rewritten = getTypicalAddressBook();
+        rewritten.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(rewritten);
+        assertEquals(rewritten, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void read_snapshotEditedByHand_journalKeptAside() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        assertEquals(edited, reopened.readAddressBook().get());
+
+        // the journal is kept under another name, and the next save starts a new one
+        assertFalse(Files.exists(journalFilePath));
+        String unappliedFilePrefix = journalFilePath.getFileName()
+                + JournalAddressBookStorage.UNAPPLIED_JOURNAL_FILE_SUFFIX;
+        try (Stream<Path> files = Files.list(testFolder)) {
+            Path unappliedFilePath = files.filter(file -> file.getFileName().toString().startsWith(unappliedFilePrefix))
+                    .findFirst().get();
+            assertEquals(journal, Files.readAllLines(unappliedFilePath));
+        }
+        edited.addPerson(AMY);
+        reopened.saveAddressBook(edited);
+        assertEquals(edited, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void read_snapshotSizeAndTimeUnchanged_checksumNotComputed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+
+        // a snapshot touched without being changed still matches its checksum
+        FileTime modifiedTime = Files.getLastModifiedTime(filePath);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(modifiedTime.toMillis() + 60_000));
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+
+        // with the size and time as recorded, the snapshot is not read for its checksum, so an edit of the same size
+        // that also restores the time goes unnoticed
+        String snapshot = Files.readString(filePath);
+        Files.writeString(filePath, snapshot.replace("Alice Pauline", "Alice Paulina"));
+        Files.setLastModifiedTime(filePath, modifiedTime);
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Paulina").build());
+        expected.addPerson(AMY);
+        assertEquals(expected, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void compactLeftoverJournal_journalWithChanges_foldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+
+        JsonAddressBookStorage snapshotStorage = new JsonAddressBookStorage(filePath);
+        assertTrue(JournalAddressBookStorage.compactLeftoverJournal(snapshotStorage));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(snapshotStorage.readAddressBook().get()));
+        assertFalse(JournalAddressBookStorage.compactLeftoverJournal(snapshotStorage));
+    }
+
+    @Test
+    public void read_compactionInterruptedAfterBookingChange_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Booking booking = new Booking("Mr Tan", LocalDateTime.of(2030, 1, 1, 10, 0), "meeting");
+        addressBook.setPerson(BENSON, BENSON.withBooking(booking));
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot already holds the booking, but the journal adding it was not restarted
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void read_invalidJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"remove\",\"index\":100}\n{\"op\":\"remove\",\"index\":0}\n"
+                        .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void diff_singleChange_singleEntry() {
+        List<Person> persons = getTypicalPersons();
+        List<Person> changed = new ArrayList<>(persons);
+        changed.remove(2);
+        assertEquals(1, JournalAddressBookStorage.diff(persons, changed).size());
+
+        changed = new ArrayList<>(persons);
+        changed.set(3, changed.get(3).withTags(AMY.getTags()));
+        assertEquals(1, JournalAddressBookStorage.diff(persons, changed).size());
+
+        changed = new ArrayList<>(persons);
+        changed.add(AMY);
+        assertEquals(1, JournalAddressBookStorage.diff(persons, changed).size());
+
+        assertTrue(JournalAddressBookStorage.diff(persons, new ArrayList<>(persons)).isEmpty());
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.booking.Booking;
+
+public class JsonAdaptedBookingTest {
+
+    private static final String VALID_CLIENT = "Mr Lim";
+    private static final String VALID_DATETIME = "2025-01-10 09:00";
+    private static final String VALID_DESCRIPTION = "consult";
+
+    @Test
+    public void toModelType_withId_keepsId() throws Exception {
+        Booking booking = new Booking(VALID_CLIENT, LocalDateTime.of(2025, 1, 10, 9, 0), VALID_DESCRIPTION).withId(4);
+        Booking converted = new JsonAdaptedBooking(booking).toModelType();
+
+        assertEquals(booking, converted);
+        assertEquals(4, converted.getId());
+    }
+
+    @Test
+    public void toModelType_missingOrLegacyId_unassigned() throws Exception {
+        assertFalse(new JsonAdaptedBooking(null, VALID_CLIENT, VALID_DATETIME, VALID_DESCRIPTION)
+                .toModelType().hasId());
+        assertFalse(new JsonAdaptedBooking("b-12", VALID_CLIENT, VALID_DATETIME, VALID_DESCRIPTION)
+                .toModelType().hasId());
+        assertFalse(new JsonAdaptedBooking("-3", VALID_CLIENT, VALID_DATETIME, VALID_DESCRIPTION)
+                .toModelType().hasId());
+    }
+
+    @Test
+    public void toModelType_invalidDatetime_throwsIllegalValueException() {
+        JsonAdaptedBooking booking = new JsonAdaptedBooking("1", VALID_CLIENT, "2025-13-01 09:00", VALID_DESCRIPTION);
+        assertThrows(IllegalValueException.class, Booking.MESSAGE_CONSTRAINTS_DATETIME, booking::toModelType);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -14,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = ""; // empty string (names must be non-blank)
@@ -36,6 +39,35 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_repeatedValues_shareInstances() throws Exception {
+        List<JsonAdaptedBooking> bookings = List.of(
+                new JsonAdaptedBooking(null, "Mr Lim", "2025-01-10 09:00", "consult"));
+        Person first = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TAGS, bookings)
+                .toModelType();
+        Person second = new JsonAdaptedPerson("Other Person", null, null, VALID_TAGS, bookings).toModelType();
+        Person reloaded = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TAGS, bookings)
+                .toModelType();
+
+        assertEquals(first.getTags(), second.getTags());
+        first.getTags().forEach(tag -> assertSame(tag, Tag.of(tag.tagName)));
+        second.getTags().forEach(tag -> assertSame(tag, Tag.of(tag.tagName)));
+        assertSame(first.getBookings().get(0).getClientName(), second.getBookings().get(0).getClientName());
+        assertSame(first.getName(), reloaded.getName());
+    }
+
+    @Test
+    public void toModelType_repeatedBookingIds_reassigned() throws Exception {
+        List<JsonAdaptedBooking> bookings = List.of(
+                new JsonAdaptedBooking("1", "Mr Lim", "2025-01-10 09:00", "consult"),
+                new JsonAdaptedBooking("1", "Mr Tan", "2025-01-05 09:00", "review"));
+        Person person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TAGS, bookings)
+                .toModelType();
+
+        assertEquals("Mr Lim", person.getBookingById(1).get().getClientName());
+        assertEquals("Mr Tan", person.getBookingById(2).get().getClientName());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,18 +11,28 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.InvalidBookingDataException;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+            "typicalPersonsAddressBook.json");
 
     @TempDir
     public Path testFolder;
@@ -86,6 +98,48 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_defaultSettings_prettyPrinted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), Files.readString(filePath));
+        assertTrue(new StorageSettings().isPrettyPrinted());
+    }
+
+    @Test
+    public void readAddressBook_memoryMapped_success() throws Exception {
+        // only files that are never written to are mapped, as a mapped file cannot be replaced on Windows
+        JsonAddressBookStorage mappedStorage = new JsonAddressBookStorage(TYPICAL_PERSONS_FILE, false, true);
+        assertEquals(getTypicalAddressBook(), new AddressBook(mappedStorage.readAddressBook().get()));
+        assertThrows(DataLoadingException.class, () -> mappedStorage.readAddressBook(
+                TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")));
+    }
+
+    @Test
+    public void readAddressBook_lazyBookings_sameAsEager() throws Exception {
+        JsonAddressBookStorage lazyStorage = new JsonAddressBookStorage(TYPICAL_PERSONS_FILE, false, false,
+                BookingLoadPolicy.lazy(0));
+        assertEquals(getTypicalAddressBook(), new AddressBook(lazyStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_lazyBookingsWithInvalidArchivedBooking_archiveCopiedUndecoded() throws Exception {
+        Path invalidFilePath = TEST_DATA_FOLDER.resolve("invalidArchivedBookingAddressBook.json");
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(invalidFilePath, false, false,
+                BookingLoadPolicy.lazy(30)).readAddressBook().get();
+        Person person = addressBook.getPersonList().get(0);
+        // the archived booking is only checked when it is decoded
+        assertEquals(1, person.getBookingsBetween(LocalDateTime.now(), LocalDateTime.MAX).size());
+
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertNotNull(person.getUndecodedBookings());
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals(mapper.readTree(invalidFilePath.toFile()), mapper.readTree(filePath.toFile()));
+        assertThrows(InvalidBookingDataException.class, person::getBookings);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_typicalAddressBook_sameAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonSerializableAddressBook serializable = new JsonSerializableAddressBook(addressBook);
+
+        assertEquals(JsonUtil.toJsonLine(serializable), write(addressBook, false));
+        assertEquals(JsonUtil.toJsonString(serializable), write(addressBook, true));
+    }
+
+    @Test
+    public void writeToFile_existingFile_replaced() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookWriter.writeToFile(addressBook, filePath, false);
+
+        addressBook.removePerson(ALICE);
+        JsonAddressBookWriter.writeToFile(addressBook, filePath, true);
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(AtomicFileWriter.getTempFilePath(filePath)));
+    }
+
+    @Test
+    public void writeToFile_writeFails_fileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.writeToFile(getTypicalAddressBook(), filePath, false);
+        String saved = Files.readString(filePath);
+
+        // the temporary file cannot be opened for writing
+        Files.createDirectory(AtomicFileWriter.getTempFilePath(filePath));
+        assertThrows(IOException.class, () -> JsonAddressBookWriter.writeToFile(new AddressBook(), filePath, false));
+        assertEquals(saved, Files.readString(filePath));
+        assertFalse(Files.exists(AtomicFileWriter.getTempFilePath(filePath)));
+    }
+
+    @Test
+    public void write_contentThrowsUncheckedException_temporaryFileDeleted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.writeToFile(getTypicalAddressBook(), filePath, false);
+        String saved = Files.readString(filePath);
+
+        assertThrows(IllegalArgumentException.class, () -> AtomicFileWriter.write(filePath, out -> {
+            out.write('{');
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(saved, Files.readString(filePath));
+        assertFalse(Files.exists(AtomicFileWriter.getTempFilePath(filePath)));
+    }
+
+    private static String write(AddressBook addressBook, boolean isPretty) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out, isPretty);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
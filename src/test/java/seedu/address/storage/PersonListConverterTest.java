@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListConverterTest {
+
+    private static final int PERSON_COUNT = 5000;
+
+    @Test
+    public void toModelType_manyPersons_convertedInOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+
+        List<Person> converted = PersonListConverter.toModelType(adaptedPersons, null);
+        assertEquals(persons, converted);
+        assertEquals(persons, PersonListConverter.toAddressBook(converted).getPersonList());
+    }
+
+    @Test
+    public void toModelType_severalInvalidPersons_firstInFileOrderReported() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            adaptedPersons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        adaptedPersons.set(4000, new JsonAdaptedPerson("Person 4000", "98765432", "example.com", List.of(),
+                List.of()));
+        adaptedPersons.set(3000, new JsonAdaptedPerson("Person 3000", " ", null, List.of(), List.of()));
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                    PersonListConverter.toModelType(adaptedPersons, null));
+        }
+        adaptedPersons.set(3000, new JsonAdaptedPerson(new PersonBuilder().withName("Person 3000").build()));
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                PersonListConverter.toModelType(adaptedPersons, null));
+    }
+
+    @Test
+    public void toAddressBook_duplicatePersons_throwsIllegalValueException() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        persons.add(new PersonBuilder().withName("Person 42").withPhone("99999999").build());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                PersonListConverter.toAddressBook(persons));
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final long GAP = ShardedAddressBookStorage.SEQUENCE_GAP;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getShardDirectoryPath() {
+        assertEquals(Paths.get("data", "addressbook.shards"),
+                ShardedAddressBookStorage.getShardDirectoryPath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.shards"),
+                ShardedAddressBookStorage.getShardDirectoryPath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("data").resolve("addressBook.shards");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Yuki Tanaka").withTags("friends")
+                .withBookings(Arrays.asList(new Booking(7, "Carl Kurz", LocalDateTime.of(2030, 2, 28, 23, 59),
+                        "Dinner"))).build());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_COUNT);
+
+        storage.saveAddressBook(original);
+        assertEquals(SEGMENT_COUNT, getSegmentFiles(directoryPath).size());
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(directoryPath).readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // moved, added and removed persons
+        original.removePerson(BENSON);
+        original.addPerson(BENSON);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(),
+                new ShardedAddressBookStorage(directoryPath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_fewChanges_onlyChangedSegmentsRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("addressBook.shards");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 200; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        new ShardedAddressBookStorage(directoryPath, SEGMENT_COUNT).saveAddressBook(addressBook);
+
+        // saved by a storage that read the data, as after restarting the app
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_COUNT);
+        storage.readAddressBook();
+        Set<Path> segmentsBefore = getSegmentFiles(directoryPath);
+        Person edited = addressBook.getPersonList().get(50);
+        addressBook.setPerson(edited, new PersonBuilder(edited).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        assertRewrittenSegments(segmentsBefore, getSegmentFiles(directoryPath), 1);
+
+        // nothing changed
+        segmentsBefore = getSegmentFiles(directoryPath);
+        storage.saveAddressBook(addressBook);
+        assertEquals(segmentsBefore, getSegmentFiles(directoryPath));
+
+        // a person inserted in the middle, as by an undo of its deletion
+        segmentsBefore = getSegmentFiles(directoryPath);
+        Person inserted = new PersonBuilder().withName("Inserted Person").build();
+        List<Person> persons = Stream.concat(Stream.concat(addressBook.getPersonList().subList(0, 100).stream(),
+                Stream.of(inserted)), addressBook.getPersonList().subList(100, 200).stream())
+                .collect(Collectors.toList());
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+        assertRewrittenSegments(segmentsBefore, getSegmentFiles(directoryPath), 1);
+
+        assertEquals(addressBook.getPersonList(),
+                new ShardedAddressBookStorage(directoryPath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_leftoverSegmentsOfFailedSave_ignoredAndDeleted() throws Exception {
+        Path directoryPath = testFolder.resolve("addressBook.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // segments written by a save that stopped before replacing the manifest
+        Path leftover = directoryPath.resolve("segment-3-99.bin");
+        Files.write(leftover, new byte[] {1, 2, 3});
+        assertEquals(addressBook.getPersonList(), storage.readAddressBook().get().getPersonList());
+
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(leftover));
+        assertEquals(addressBook.getPersonList(), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_invalidData_throwsDataLoadingException() throws Exception {
+        Path directoryPath = testFolder.resolve("addressBook.shards");
+        Path manifestPath = directoryPath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+        String manifest = Files.readString(manifestPath);
+
+        // unsupported version
+        Files.writeString(manifestPath, manifest.replace("\"version\" : 1", "\"version\" : 2"));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // segment outside the directory
+        Files.writeString(manifestPath, manifest.replaceFirst("segment-0-1.bin", "../segment-0-1.bin"));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // missing segment
+        Files.writeString(manifestPath, manifest.replaceFirst("segment-0-1.bin", "segment-0-2.bin"));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // segment holding the persons of another segment
+        Files.writeString(manifestPath, manifest);
+        Path segmentPath = directoryPath.resolve(getSegmentFileName(DANIEL));
+        Path otherSegmentPath = directoryPath.resolve(getSegmentFileName(ALICE));
+        byte[] segment = Files.readAllBytes(segmentPath);
+        Files.copy(otherSegmentPath, segmentPath, StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // segment cut short
+        Files.write(segmentPath, Arrays.copyOf(segment, segment.length - 3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void updateSequences_keptPersons_keepTheirSequences() {
+        List<Person> oldPersons = List.of(ALICE, BENSON, CARL, DANIEL);
+        long[] oldSequences = {0, GAP, 2 * GAP, 3 * GAP};
+
+        // appended and prepended
+        assertArrayEquals(new long[] {-GAP, 0, GAP, 2 * GAP, 3 * GAP, 4 * GAP}, ShardedAddressBookStorage
+                .updateSequences(oldPersons, oldSequences, List.of(HOON, ALICE, BENSON, CARL, DANIEL, HOON)));
+
+        // inserted in between
+        assertArrayEquals(new long[] {0, GAP / 2, GAP, 2 * GAP, 3 * GAP}, ShardedAddressBookStorage
+                .updateSequences(oldPersons, oldSequences, List.of(ALICE, HOON, BENSON, CARL, DANIEL)));
+
+        // replaced, reusing the sequence of the removed person
+        assertArrayEquals(new long[] {0, GAP, 3 * GAP}, ShardedAddressBookStorage
+                .updateSequences(oldPersons, oldSequences, List.of(ALICE, HOON, DANIEL)));
+
+        // moved to the end
+        assertArrayEquals(new long[] {GAP, 2 * GAP, 3 * GAP, 4 * GAP}, ShardedAddressBookStorage
+                .updateSequences(oldPersons, oldSequences, List.of(BENSON, CARL, DANIEL, ALICE)));
+    }
+
+    @Test
+    public void updateSequences_noFreeSequences_returnsNull() {
+        assertNull(ShardedAddressBookStorage.updateSequences(List.of(ALICE, BENSON), new long[] {0, 1},
+                List.of(ALICE, HOON, BENSON)));
+    }
+
+    @Test
+    public void findChangedSegments() {
+        List<Person> oldPersons = List.of(ALICE, BENSON, CARL);
+        long[] oldSequences = {0, GAP, 2 * GAP};
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+
+        assertTrue(ShardedAddressBookStorage.findChangedSegments(oldPersons, oldSequences, oldPersons, oldSequences,
+                SEGMENT_COUNT).isEmpty());
+        assertEquals(Set.of(getSegmentIndex(BENSON)), ShardedAddressBookStorage.findChangedSegments(oldPersons,
+                oldSequences, List.of(ALICE, editedBenson, CARL), oldSequences, SEGMENT_COUNT));
+        assertEquals(Set.of(getSegmentIndex(CARL), getSegmentIndex(HOON)), ShardedAddressBookStorage
+                .findChangedSegments(oldPersons, oldSequences, List.of(ALICE, BENSON, HOON),
+                        new long[] {0, GAP, 3 * GAP}, SEGMENT_COUNT));
+    }
+
+    private static int getSegmentIndex(Person person) {
+        return ShardedAddressBookStorage.getSegmentIndex(person, SEGMENT_COUNT);
+    }
+
+    private static String getSegmentFileName(Person person) {
+        return "segment-" + getSegmentIndex(person) + "-1.bin";
+    }
+
+    private static Set<Path> getSegmentFiles(Path directoryPath) throws IOException {
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.filter(file -> ShardedAddressBookStorage.isSegmentFileName(file.getFileName().toString()))
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private static void assertRewrittenSegments(Set<Path> before, Set<Path> after, int expectedCount) {
+        Set<Path> rewritten = new HashSet<>(after);
+        rewritten.removeAll(before);
+        assertEquals(expectedCount, rewritten.size());
+        assertEquals(before.size(), after.size());
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveSettings;
+import seedu.address.commons.core.SaveSettings.Mode;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_burstOfChanges_writtenOnceWithLatestData() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, new SaveSettings(Mode.DEBOUNCE, 60_000, 1),
+                e -> {});
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.submit(addressBook);
+        addressBook.removePerson(ALICE);
+        saver.submit(addressBook);
+        addressBook.removePerson(BENSON);
+        assertTrue(saver.hasPendingChanges());
+        assertEquals(0, saver.getWriteCount());
+
+        // the submitted copy is not affected by later changes
+        saver.shutdown();
+        assertEquals(1, saver.getWriteCount());
+        assertFalse(saver.hasPendingChanges());
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void submit_everyNCommands_writesInBackgroundAfterN() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                super.saveAddressBook(addressBook, filePath);
+                written.countDown();
+            }
+        };
+        WriteBehindSaver saver = new WriteBehindSaver(storage, new SaveSettings(Mode.EVERY_N_COMMANDS, 0, 2),
+                e -> {});
+
+        saver.submit(getTypicalAddressBook());
+        assertTrue(saver.hasPendingChanges());
+        saver.submit(getTypicalAddressBook());
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        saver.shutdown();
+        assertEquals(1, saver.getWriteCount());
+    }
+
+    @Test
+    public void submit_writeFails_reportedAndKeptPending() throws Exception {
+        IOException failure = new IOException("disk full");
+        CountDownLatch reported = new CountDownLatch(1);
+        boolean[] isFailing = {true};
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        IOException[] reportedFailure = new IOException[1];
+        WriteBehindSaver saver = new WriteBehindSaver(storage, new SaveSettings(Mode.IMMEDIATE, 0, 1), e -> {
+            reportedFailure[0] = e;
+            reported.countDown();
+        });
+
+        saver.submit(getTypicalAddressBook());
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        assertEquals(failure, reportedFailure[0]);
+        assertTrue(saver.hasPendingChanges());
+        assertThrows(IOException.class, saver::flush);
+
+        isFailing[0] = false;
+        saver.shutdown();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void submit_writeThrowsUncheckedException_reportedAndRetried() throws Exception {
+        IllegalStateException failure = new IllegalStateException("corrupt booking");
+        CountDownLatch written = new CountDownLatch(1);
+        boolean[] isFailing = {true};
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    isFailing[0] = false;
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+                written.countDown();
+            }
+        };
+        IOException[] reportedFailure = new IOException[1];
+        WriteBehindSaver saver = new WriteBehindSaver(storage, new SaveSettings(Mode.IMMEDIATE, 0, 1),
+                e -> reportedFailure[0] = e, 10);
+
+        // written by the retry, without another submit or flush
+        saver.submit(getTypicalAddressBook());
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        assertEquals(failure, reportedFailure[0].getCause());
+        assertFalse(saver.hasPendingChanges());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        saver.shutdown();
+        assertEquals(1, saver.getWriteCount());
+    }
+}